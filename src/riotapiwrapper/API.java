@@ -4,6 +4,7 @@ import riotapiwrapper.request.Request;
 import riotapiwrapper.util.DefaultThrottle;
 import riotapiwrapper.util.RequestArbiter;
 import riotapiwrapper.util.ResponseHandler;
+import riotapiwrapper.util.SingleFlight;
 
 
 /**
@@ -22,7 +23,7 @@ public class API {
     API(String key) {
         checkKey(key);
         this.KEY = key;
-        arbiter = new DefaultThrottle();
+        arbiter = new SingleFlight(new DefaultThrottle());
     }
     
     API(String key, RequestArbiter arbiter) {
@@ -34,7 +35,7 @@ public class API {
     API(String key, int N1, int T1, int N2, int T2) {
         checkKey(key);
         this.KEY = key;
-        arbiter = new DefaultThrottle(N1, T1, N2, T2);
+        arbiter = new SingleFlight(new DefaultThrottle(N1, T1, N2, T2));
     }
     
     void arbitrate(Request request, ResponseHandler handler) {
@@ -48,7 +49,14 @@ public class API {
         arbiter.addLimit(N, T);
     }
     
-    private void checkKey(String key) {
+    /**
+     * Checks that a LoL API key is formatted correctly, as 36 characters split
+     * by dashes into groups of 8, 4, 4, 4 and 12.
+     * 
+     * @param key   The key to check.
+     * @throws  IllegalArgumentException if the key is not correctly formatted.
+     */
+    public static void checkKey(String key) {
         if (key.length() != 36) {
             throw new IllegalArgumentException("Key is not formatted correctly.");
         }
@@ -4,8 +4,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import riotapiwrapper.request.HttpTransport;
 import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.request.Transport;
 import riotapiwrapper.util.DefaultThrottle;
 import riotapiwrapper.util.RequestArbiter;
 import riotapiwrapper.util.ResponseHandler;
@@ -19,21 +24,56 @@ import riotapiwrapper.util.ResponseHandler;
  * {@code makeRequest()} will throw a {@code IllegalStateException()} Requests
  * made without {@code makeRequest()} risk going over your API key's rate limit
  * as the requests will not be tracked.
+ * <p>
+ * Requests made through {@code makeRequestAsync()} are handed to an I/O 
+ * {@code Executor} instead of being sent from the calling thread, and their
+ * responses are given back through a {@code CompletableFuture}. Unless one is
+ * set with {@code setExecutor()}, virtual threads are used when running on 
+ * Java 21 or later, and a pool of daemon threads otherwise.
+ * <p>
+ * Every setting here belongs to a default {@code LolClient}, and each setter
+ * replaces it with a copy that has the one setting changed. Applications that
+ * work with several keys or regions at once can build their own clients and
+ * pass them to the request factories instead.
  * 
  * @author  Christopher McFall
  * @see     RequestArbiter
  * @see     ResponseHandler
+ * @see     LolClient
  */
 public class LolAPI {
     
-    private static Regions region = Regions.NA;
-    private static API api;
+    private static volatile LolClient client = new LolClient((API) null);
     
     /*
      * Static class
      */
     private LolAPI() { }
     
+    /**
+     * Returns the default client, which requests are built with and sent 
+     * through when a {@code LolClient} is not given to them.
+     * 
+     * @return  The default client.
+     */
+    public static LolClient client() {
+        return client;
+    }
+    
+    /**
+     * Replaces the default client. Requests already built keep using the
+     * client they were built with.
+     * 
+     * @param newClient     The client to use by default.
+     * @throws  NullPointerException if newClient is null.
+     */
+    public static void setClient(LolClient newClient) {
+        if (newClient == null) {
+            throw new NullPointerException("the client cannot be null");
+        }
+        client = newClient;
+    }
+    
     /**
      * Sends a request through the API key's {@code RequestArbiter} and
      * {@code ResponseHandler}.
@@ -42,7 +82,68 @@ public class LolAPI {
      * @param handler   The handler 
      */
     public static void makeRequest(Request request, ResponseHandler handler) {
-        api.arbitrate(request, handler);
+        client.makeRequest(request, handler);
+    }
+    
+    /**
+     * Sends a request through the API key's {@code RequestArbiter} without
+     * blocking the calling thread. The request is arbitrated and sent on the
+     * I/O {@code Executor}, and the returned future is completed on it as
+     * well, so stages chained onto the future never run on the arbiter's
+     * own threads.
+     * 
+     * @param request   The {@code Request} to be sent.
+     * @return          A future completed with the {@code Response} from the
+     *                  API server.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @see     #setExecutor(Executor)
+     */
+    public static CompletableFuture<Response> makeRequestAsync(
+            Request request) {
+        return client.makeRequestAsync(request);
+    }
+    
+    /**
+     * Sets the {@code Executor} used to send requests made with
+     * {@code makeRequestAsync()}. Requests already submitted keep using the
+     * previous one.
+     * 
+     * @param ioExecutor    The {@code Executor} to send requests on.
+     * @throws  NullPointerException if ioExecutor is null.
+     */
+    public static void setExecutor(Executor ioExecutor) {
+        client = client.withExecutor(ioExecutor);
+    }
+    
+    /**
+     * Returns the {@code Executor} used to send requests made with
+     * {@code makeRequestAsync()}.
+     * 
+     * @return  The {@code Executor} used for asynchronous requests.
+     */
+    public static Executor getExecutor() {
+        return client.executor();
+    }
+    
+    /**
+     * Sets the {@code Transport} every request is sent with. If one is not 
+     * set, an {@code HttpTransport} with its default timeouts is used.
+     * 
+     * @param newTransport  The {@code Transport} to send requests with.
+     * @throws  NullPointerException if newTransport is null.
+     * @see     HttpTransport
+     */
+    public static void setTransport(Transport newTransport) {
+        client = client.withTransport(newTransport);
+    }
+    
+    /**
+     * Returns the {@code Transport} every request is sent with.
+     * 
+     * @return  The {@code Transport} every request is sent with.
+     */
+    public static Transport getTransport() {
+        return client.transport();
     }
     
     /**
@@ -57,7 +158,7 @@ public class LolAPI {
      *                  formatted.
      */
     public static void set(String key) {
-        api = new API(key);
+        client = client.withApi(new API(key));
     }
     
     /**
@@ -72,11 +173,12 @@ public class LolAPI {
         Scanner reader;
         try {
             reader = new Scanner(new FileReader(filePath));
-            api = new API(reader.next());
+            API api = new API(reader.next());
             int limits = 0;
             while (reader.hasNextInt() || limits > 1) {
                 api.addLimit(reader.nextInt(), reader.nextInt());
             }
+            client = client.withApi(api);
         } catch (FileNotFoundException e) {
             // TODO Auto-generated catch block
             e.printStackTrace();
@@ -98,7 +200,7 @@ public class LolAPI {
      * @see     ResponseHandler
      */
     public static void setDev(String key) {
-        api = new API(key);
+        client = client.withApi(new API(key));
     }
     
     /**
@@ -120,7 +222,7 @@ public class LolAPI {
      */
     public static void set(String key, int N1,
             int T1, int N2, int T2) {
-        api = new API(key, N1, T1, N2, T2);
+        client = client.withApi(new API(key, N1, T1, N2, T2));
     }
     
     /**
@@ -133,7 +235,7 @@ public class LolAPI {
      * @see RequestArbiter
      */
     public static void set(String key, RequestArbiter arbiter) {
-        api = new API(key, arbiter);
+        client = client.withApi(new API(key, arbiter));
     }
     
     /**
@@ -142,7 +244,7 @@ public class LolAPI {
      * @return  The API key currently being used.
      */
     public static API getApi() {
-        return api;
+        return client.getApi();
     }
     
     /**
@@ -152,7 +254,7 @@ public class LolAPI {
      * @param newRegion    The {@code Region} to be used for future requests.
      */
     public static void setRegion(Regions newRegion) {
-        region = newRegion;
+        client = client.withRegion(newRegion);
     }
     
     /**
@@ -161,7 +263,7 @@ public class LolAPI {
      * @return  The current region being used to make requests.
      */
     public static Regions getCurrentRegion() {
-        return region;
+        return client.region();
     }
     
 }
@@ -0,0 +1,367 @@
+package riotapiwrapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import riotapiwrapper.request.HttpTransport;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.request.Transport;
+import riotapiwrapper.util.RequestArbiter;
+import riotapiwrapper.util.ResponseHandler;
+
+/**
+ * Everything needed to build and send requests for one API key: the key and
+ * its {@code RequestArbiter}, the region, the static data locale and version,
+ * the ranked queues for match history requests, the {@code Transport} and the
+ * I/O {@code Executor}.
+ * <p>
+ * A {@code LolClient} cannot be changed once created. The {@code with}
+ * methods return a new client with one setting changed, sharing the key,
+ * arbiter and everything else with the original. Requests built with a client
+ * only ever read that client's settings, so several clients can build and
+ * send requests for different regions or keys at the same time from any
+ * number of threads.
+ * <p>
+ * The static methods of {@code LolAPI} and the request classes work on a
+ * default client kept by {@code LolAPI}.
+ * 
+ * @see     LolAPI#client()
+ */
+public final class LolClient {
+    
+    private static final Transport defaultTransport = new HttpTransport();
+    private static final Executor defaultExecutor = defaultExecutor();
+    
+    private final API api;
+    private final Regions region;
+    private final Locales locale;
+    private final String version;
+    private final QueueTypes[] rankedQueues;
+    private final Transport transport;
+    private final Executor executor;
+    
+    /**
+     * Creates a client for the key using the {@code DefaultThrottle} with
+     * developer rate limits, for the North America region.
+     * 
+     * @param key   The LoL API key to be used to make requests.
+     * @throws  IllegalArgumentException if the key given is not correctly
+     *                  formatted.
+     */
+    public LolClient(String key) {
+        this(new API(key));
+    }
+    
+    /**
+     * Creates a client for the key using the {@code DefaultThrottle} with
+     * the rate limits supplied, for the North America region. If either N2 or
+     * T2 are 0, a second rate limit will not be used.
+     * 
+     * @param key       The LoL API key to be used to make requests.
+     * @param N1        Number of requests per time for the first rate limit.
+     * @param T1        Time limit for the first rate limit.
+     * @param N2        Number of requests per time for the second rate limit.
+     *                  If 0, a second rate limit will not be used.
+     * @param T2        Time limit for the second rate limit. If 0, a second
+     *                  rate limit will not be used.
+     * @throws          IllegalArgumentException if N1, T1, N2 or T2 are < 0, or
+     *                  if the key given is not correctly formatted.
+     */
+    public LolClient(String key, int N1, int T1, int N2, int T2) {
+        this(new API(key, N1, T1, N2, T2));
+    }
+    
+    /**
+     * Creates a client for the key using the {@code RequestArbiter} given,
+     * for the North America region.
+     * 
+     * @param key       The LoL API key to be used to make requests.
+     * @param arbiter   The {@code RequestArbiter} used to arbitrate requests.
+     * @throws  IllegalArgumentException if the key given is not correctly
+     *                  formatted.
+     */
+    public LolClient(String key, RequestArbiter arbiter) {
+        this(new API(key, arbiter));
+    }
+    
+    /*
+     * api may be null for the default client before a key has been set.
+     */
+    LolClient(API api) {
+        this(api, Regions.NA, null, null, null, defaultTransport,
+                defaultExecutor);
+    }
+    
+    private LolClient(API api, Regions region, Locales locale, String version,
+            QueueTypes[] rankedQueues, Transport transport,
+            Executor executor) {
+        this.api = api;
+        this.region = region;
+        this.locale = locale;
+        this.version = version;
+        this.rankedQueues = rankedQueues;
+        this.transport = transport;
+        this.executor = executor;
+    }
+    
+    /**
+     * Sends a request through the client's {@code RequestArbiter} and the
+     * given {@code ResponseHandler}.
+     * 
+     * @param request   The {@code Request} to be sent.
+     * @param handler   The handler for the request's response.
+     * @throws  IllegalStateException if the client does not have an API key.
+     */
+    public void makeRequest(Request request, ResponseHandler handler) {
+        api().arbitrate(request, handler);
+    }
+    
+    /**
+     * Sends a request through the client's {@code RequestArbiter} without
+     * blocking the calling thread. The request is arbitrated and sent on the
+     * client's I/O {@code Executor}, and the returned future is completed on
+     * it as well, so stages chained onto the future never run on the
+     * arbiter's own threads.
+     * <p>
+     * The future is completed for every request. A request that could not be
+     * sent or whose response could not be received completes it with a
+     * {@code Response} with a code of 0, and it is only completed
+     * exceptionally if the arbiter throws.
+     * 
+     * @param request   The {@code Request} to be sent.
+     * @return          A future completed with the {@code Response} from the
+     *                  API server.
+     * @throws  IllegalStateException if the client does not have an API key.
+     */
+    public CompletableFuture<Response> makeRequestAsync(Request request) {
+        API target = api();
+        Executor io = executor;
+        CompletableFuture<Response> future = new CompletableFuture<Response>();
+        ResponseHandler completer = response -> {
+            try {
+                io.execute(() -> future.complete(response));
+            } catch (RejectedExecutionException e) {
+                future.complete(response);
+            }
+        };
+        io.execute(() -> {
+            try {
+                target.arbitrate(request, completer);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Returns the API key and arbiter used by this client, or null if the
+     * client does not have a key.
+     * 
+     * @return  The API key used by this client, or null.
+     */
+    public API getApi() {
+        return api;
+    }
+    
+    /**
+     * Returns the region requests are built for.
+     * 
+     * @return  The region requests are built for.
+     */
+    public Regions region() {
+        return region;
+    }
+    
+    /**
+     * Returns the locale static data is requested in, or null for each
+     * region's default locale.
+     * 
+     * @return  The locale static data is requested in, or null.
+     */
+    public Locales locale() {
+        return locale;
+    }
+    
+    /**
+     * Returns the version static data is requested for, or null for the most
+     * recent version.
+     * 
+     * @return  The version static data is requested for, or null.
+     */
+    public String version() {
+        return version;
+    }
+    
+    /**
+     * Returns the ranked queues match history is requested from, or null for
+     * every queue.
+     * 
+     * @return  The ranked queues match history is requested from, or null.
+     */
+    public QueueTypes[] rankedQueues() {
+        return rankedQueues == null ? null : rankedQueues.clone();
+    }
+    
+    /**
+     * Returns the {@code Transport} requests are sent with.
+     * 
+     * @return  The {@code Transport} requests are sent with.
+     */
+    public Transport transport() {
+        return transport;
+    }
+    
+    /**
+     * Returns the {@code Executor} asynchronous requests are sent on.
+     * 
+     * @return  The {@code Executor} asynchronous requests are sent on.
+     */
+    public Executor executor() {
+        return executor;
+    }
+    
+    /**
+     * Returns a copy of this client that builds requests for the given
+     * region.
+     * 
+     * @param newRegion     The region to build requests for.
+     * @return              A client for the given region.
+     * @throws  NullPointerException if newRegion is null.
+     */
+    public LolClient withRegion(Regions newRegion) {
+        if (newRegion == null) {
+            throw new NullPointerException("the region cannot be null");
+        }
+        return new LolClient(api, newRegion, locale, version, rankedQueues,
+                transport, executor);
+    }
+    
+    /**
+     * Returns a copy of this client that requests static data in the given
+     * locale.
+     * 
+     * @param newLocale     Language locale to request static data in. If
+     *                      null, each region's default locale is used.
+     * @return              A client for the given locale.
+     */
+    public LolClient withLocale(Locales newLocale) {
+        return new LolClient(api, region, newLocale, version, rankedQueues,
+                transport, executor);
+    }
+    
+    /**
+     * Returns a copy of this client that requests static data for the given
+     * version.
+     * 
+     * @param newVersion    Version to request static data for. If null or
+     *                      empty, the most recent version for the region is
+     *                      used.
+     * @return              A client for the given version.
+     */
+    public LolClient withVersion(String newVersion) {
+        if (newVersion != null && newVersion.isEmpty()) newVersion = null;
+        return new LolClient(api, region, locale, newVersion, rankedQueues,
+                transport, executor);
+    }
+    
+    /**
+     * Returns a copy of this client that requests match history from the
+     * given ranked queues only. With no queues, match history is requested
+     * from every queue.
+     * <p>
+     * Allowed Values:
+     * QueueTypes.RANKED_SOLO_5x5
+     * QueueTypes.RANKED_TEAM_5x5
+     * QueueTypes.RANKED_TEAM_3x3
+     * 
+     * @param queues    The list of ranked queues to request match history
+     *                  from.
+     * @return          A client for the given ranked queues.
+     * @throws  IllegalArgumentException if a queue is not ranked or more than
+     *          3 are given.
+     */
+    public LolClient withRankedQueues(QueueTypes... queues) {
+        if (queues.length > 3) {
+            throw new IllegalArgumentException("There are only 3 availible "
+                    + "ranked queues");
+        }
+        for (QueueTypes queue : queues) {
+            if (!queue.isRanked()) {
+                throw new IllegalArgumentException("You may only select ranked "
+                        + "queues.");
+            }
+        }
+        QueueTypes[] newQueues = queues.length == 0 ? null : queues.clone();
+        return new LolClient(api, region, locale, version, newQueues,
+                transport, executor);
+    }
+    
+    /**
+     * Returns a copy of this client that sends requests with the given
+     * {@code Transport}.
+     * 
+     * @param newTransport  The {@code Transport} to send requests with.
+     * @return              A client using the given transport.
+     * @throws  NullPointerException if newTransport is null.
+     */
+    public LolClient withTransport(Transport newTransport) {
+        if (newTransport == null) {
+            throw new NullPointerException("the transport cannot be null");
+        }
+        return new LolClient(api, region, locale, version, rankedQueues,
+                newTransport, executor);
+    }
+    
+    /**
+     * Returns a copy of this client that sends asynchronous requests on the
+     * given {@code Executor}.
+     * 
+     * @param newExecutor   The {@code Executor} to send requests on.
+     * @return              A client using the given executor.
+     * @throws  NullPointerException if newExecutor is null.
+     */
+    public LolClient withExecutor(Executor newExecutor) {
+        if (newExecutor == null) {
+            throw new NullPointerException("the executor cannot be null");
+        }
+        return new LolClient(api, region, locale, version, rankedQueues,
+                transport, newExecutor);
+    }
+    
+    LolClient withApi(API newApi) {
+        return new LolClient(newApi, region, locale, version, rankedQueues,
+                transport, executor);
+    }
+    
+    private API api() {
+        if (api == null) {
+            throw new IllegalStateException("An API has not been provided to "
+                    + "make this call.");
+        }
+        return api;
+    }
+    
+    /*
+     * Virtual threads are looked up reflectively so the library still runs
+     * on releases before 21.
+     */
+    private static Executor defaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "lol api io thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+}
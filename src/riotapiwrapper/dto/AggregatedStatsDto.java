@@ -0,0 +1,127 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * Statistics added up over many games. The server only sends the statistics
+ * that apply to a game mode, so every statistic is read by its name, and
+ * the ones used most have their own getter.
+ * 
+ * @see     ChampionStatsDto
+ * @see     PlayerStatsSummaryDto
+ */
+public class AggregatedStatsDto extends Dto {
+    
+    private final Map<String, Long> stats = new HashMap<String, Long>();
+    
+    AggregatedStatsDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        if (reader.peek() != JsonReader.Token.NUMBER) return false;
+        stats.put(name, reader.nextLong());
+        return true;
+    }
+    
+    /**
+     * Returns a statistic by its name, or 0 if it was not sent.
+     * 
+     * @param name  The statistic's name, like "totalChampionKills".
+     * @return      The statistic.
+     */
+    public long get(String name) {
+        materialize();
+        Long stat = stats.get(name);
+        return stat == null ? 0 : stat;
+    }
+    
+    /**
+     * Returns every statistic that was sent, by name.
+     * 
+     * @return  Every statistic that was sent.
+     */
+    public Map<String, Long> all() {
+        materialize();
+        return Collections.unmodifiableMap(stats);
+    }
+    
+    /**
+     * Returns the number of games played.
+     * 
+     * @return  The number of games played.
+     */
+    public long totalSessionsPlayed() {
+        return get("totalSessionsPlayed");
+    }
+    
+    /**
+     * Returns the number of games won.
+     * 
+     * @return  The number of games won.
+     */
+    public long totalSessionsWon() {
+        return get("totalSessionsWon");
+    }
+    
+    /**
+     * Returns the number of games lost.
+     * 
+     * @return  The number of games lost.
+     */
+    public long totalSessionsLost() {
+        return get("totalSessionsLost");
+    }
+    
+    /**
+     * Returns the number of champions killed.
+     * 
+     * @return  The number of champions killed.
+     */
+    public long totalChampionKills() {
+        return get("totalChampionKills");
+    }
+    
+    /**
+     * Returns the number of deaths.
+     * 
+     * @return  The number of deaths.
+     */
+    public long totalDeathsPerSession() {
+        return get("totalDeathsPerSession");
+    }
+    
+    /**
+     * Returns the number of kills assisted.
+     * 
+     * @return  The number of kills assisted.
+     */
+    public long totalAssists() {
+        return get("totalAssists");
+    }
+    
+    /**
+     * Returns the number of minions killed.
+     * 
+     * @return  The number of minions killed.
+     */
+    public long totalMinionKills() {
+        return get("totalMinionKills");
+    }
+    
+    /**
+     * Returns the gold earned.
+     * 
+     * @return  The gold earned.
+     */
+    public long totalGoldEarned() {
+        return get("totalGoldEarned");
+    }
+    
+}
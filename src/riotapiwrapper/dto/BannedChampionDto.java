@@ -0,0 +1,72 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A champion banned in a game, read from a match or a current or featured
+ * game.
+ * 
+ * @see     TeamDto
+ * @see     CurrentGameDto
+ */
+public class BannedChampionDto extends Dto {
+    
+    private int championId;
+    private int teamId;
+    private int pickTurn;
+    
+    BannedChampionDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "championId":
+                championId = reader.nextInt();
+                return true;
+            case "teamId":
+                teamId = reader.nextInt();
+                return true;
+            case "pickTurn":
+                pickTurn = reader.nextInt();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the id of the banned champion.
+     * 
+     * @return  The id of the banned champion.
+     */
+    public int championId() {
+        materialize();
+        return championId;
+    }
+    
+    /**
+     * Returns the id of the team that banned the champion, or 0 if it is
+     * not known, as in a match's team.
+     * 
+     * @return  The id of the team that banned the champion.
+     */
+    public int teamId() {
+        materialize();
+        return teamId;
+    }
+    
+    /**
+     * Returns the turn the champion was banned on.
+     * 
+     * @return  The turn the champion was banned on.
+     */
+    public int pickTurn() {
+        materialize();
+        return pickTurn;
+    }
+    
+}
@@ -0,0 +1,55 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summoner's ranked statistics for one champion.
+ * 
+ * @see     RankedStatsDto
+ */
+public class ChampionStatsDto extends Dto {
+    
+    private int id;
+    private AggregatedStatsDto stats;
+    
+    ChampionStatsDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "id":
+                id = reader.nextInt();
+                return true;
+            case "stats":
+                stats = new AggregatedStatsDto(reader.nextRaw());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the champion's id, or 0 for every champion together.
+     * 
+     * @return  The champion's id.
+     */
+    public int id() {
+        materialize();
+        return id;
+    }
+    
+    /**
+     * Returns the statistics for the champion, or null if there are none.
+     * 
+     * @return  The statistics for the champion.
+     */
+    public AggregatedStatsDto stats() {
+        materialize();
+        return stats;
+    }
+    
+}
@@ -0,0 +1,197 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A game in progress, read from a {@code CurrentGame} response or from the
+ * list of featured games.
+ * 
+ * @see     riotapiwrapper.request.CurrentGame
+ * @see     FeaturedGamesDto
+ */
+public class CurrentGameDto extends Dto {
+    
+    private long gameId;
+    private long gameStartTime;
+    private long gameLength;
+    private String gameMode;
+    private String gameType;
+    private long gameQueueConfigId;
+    private long mapId;
+    private String platformId;
+    private String encryptionKey;
+    private List<GameParticipantDto> participants = Collections.emptyList();
+    private List<BannedChampionDto> bannedChampions = Collections.emptyList();
+    
+    CurrentGameDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the game of a response to {@code CurrentGame.get()}.
+     * 
+     * @param response  A successful response for a current game.
+     * @return          The game.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static CurrentGameDto of(Response response) {
+        return new CurrentGameDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "gameId":
+                gameId = reader.nextLong();
+                return true;
+            case "gameStartTime":
+                gameStartTime = reader.nextLong();
+                return true;
+            case "gameLength":
+                gameLength = reader.nextLong();
+                return true;
+            case "gameMode":
+                gameMode = reader.nextString();
+                return true;
+            case "gameType":
+                gameType = reader.nextString();
+                return true;
+            case "gameQueueConfigId":
+                gameQueueConfigId = reader.nextLong();
+                return true;
+            case "mapId":
+                mapId = reader.nextLong();
+                return true;
+            case "platformId":
+                platformId = reader.nextString();
+                return true;
+            case "observers":
+                encryptionKey = strings(reader).get("encryptionKey");
+                return true;
+            case "participants":
+                participants = list(reader, GameParticipantDto::new);
+                return true;
+            case "bannedChampions":
+                bannedChampions = list(reader, BannedChampionDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the game's id.
+     * 
+     * @return  The game's id.
+     */
+    public long gameId() {
+        materialize();
+        return gameId;
+    }
+    
+    /**
+     * Returns when the game started, in milliseconds since the epoch.
+     * 
+     * @return  When the game started.
+     */
+    public long gameStartTime() {
+        materialize();
+        return gameStartTime;
+    }
+    
+    /**
+     * Returns how long the game has been going, in seconds.
+     * 
+     * @return  The game's length in seconds.
+     */
+    public long gameLength() {
+        materialize();
+        return gameLength;
+    }
+    
+    /**
+     * Returns the game's mode, like "CLASSIC".
+     * 
+     * @return  The game's mode.
+     */
+    public String gameMode() {
+        materialize();
+        return gameMode;
+    }
+    
+    /**
+     * Returns the game's type, like "MATCHED_GAME".
+     * 
+     * @return  The game's type.
+     */
+    public String gameType() {
+        materialize();
+        return gameType;
+    }
+    
+    /**
+     * Returns the id of the queue the game is played in.
+     * 
+     * @return  The game's queue id.
+     */
+    public long gameQueueConfigId() {
+        materialize();
+        return gameQueueConfigId;
+    }
+    
+    /**
+     * Returns the id of the map the game is played on.
+     * 
+     * @return  The game's map id.
+     */
+    public long mapId() {
+        materialize();
+        return mapId;
+    }
+    
+    /**
+     * Returns the id of the platform the game is played on, like "NA1".
+     * 
+     * @return  The game's platform id.
+     */
+    public String platformId() {
+        materialize();
+        return platformId;
+    }
+    
+    /**
+     * Returns the key used to spectate the game.
+     * 
+     * @return  The game's encryption key for spectators.
+     */
+    public String encryptionKey() {
+        materialize();
+        return encryptionKey;
+    }
+    
+    /**
+     * Returns the game's participants.
+     * 
+     * @return  The game's participants.
+     */
+    public List<GameParticipantDto> participants() {
+        materialize();
+        return participants;
+    }
+    
+    /**
+     * Returns the champions banned in the game.
+     * 
+     * @return  The champions banned in the game.
+     */
+    public List<BannedChampionDto> bannedChampions() {
+        materialize();
+        return bannedChampions;
+    }
+    
+}
@@ -0,0 +1,137 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * The base of every object read from a response's JSON.
+ * <p>
+ * A {@code Dto} keeps the bytes of its JSON object and reads them with a
+ * {@code JsonReader} the first time one of its fields is asked for, so objects
+ * that are never looked at are never parsed. Fields holding other objects keep
+ * just the bytes of those objects until they are asked for in turn, and fields
+ * a {@code Dto} has no getter for are skipped, but stay in {@code json()}.
+ * <p>
+ * A {@code Dto} can be shared between threads. Malformed JSON throws an
+ * {@code IllegalArgumentException} from the getter that first reads it.
+ */
+public abstract class Dto {
+    
+    private final ByteBuffer json;
+    private boolean materialized;
+    
+    Dto(ByteBuffer json) {
+        this.json = json;
+    }
+    
+    /**
+     * Returns the bytes of this object's JSON.
+     * 
+     * @return  A read only buffer of this object's JSON.
+     */
+    public ByteBuffer json() {
+        return json.asReadOnlyBuffer();
+    }
+    
+    /**
+     * Returns this object's JSON.
+     * 
+     * @return  This object's JSON.
+     */
+    @Override
+    public String toString() {
+        return StandardCharsets.UTF_8.decode(json.duplicate()).toString();
+    }
+    
+    /*
+     * Reads every field of this object the first time it is called.
+     */
+    final synchronized void materialize() {
+        if (materialized) return;
+        JsonReader reader = new JsonReader(json);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL || !read(name, reader)) {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        materialized = true;
+    }
+    
+    /*
+     * Reads the value of the named field, or returns false without reading
+     * it if this object does not keep it. Values are never null.
+     */
+    abstract boolean read(String name, JsonReader reader);
+    
+    /*
+     * Returns the body of a successful response.
+     */
+    static ByteBuffer body(Response response) {
+        if (response.status != HTTPstatus.SUCCESSFUL) {
+            throw new IllegalArgumentException("the response was not "
+                    + "successful: " + response.code);
+        }
+        return response.bytes();
+    }
+    
+    /*
+     * Reads an array of objects, without reading the objects themselves.
+     */
+    static <T> List<T> list(JsonReader reader,
+            Function<ByteBuffer, T> factory) {
+        List<T> list = new ArrayList<T>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(factory.apply(reader.nextRaw()));
+        }
+        reader.endArray();
+        return Collections.unmodifiableList(list);
+    }
+    
+    /*
+     * Reads an object of objects by name, without reading the objects
+     * themselves.
+     */
+    static <T> Map<String, T> map(JsonReader reader,
+            Function<ByteBuffer, T> factory) {
+        Map<String, T> map = new LinkedHashMap<String, T>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            map.put(reader.nextName(), factory.apply(reader.nextRaw()));
+        }
+        reader.endObject();
+        return Collections.unmodifiableMap(map);
+    }
+    
+    /*
+     * Reads an object of strings by name.
+     */
+    static Map<String, String> strings(JsonReader reader) {
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.skipValue();
+            } else {
+                map.put(name, reader.nextString());
+            }
+        }
+        reader.endObject();
+        return Collections.unmodifiableMap(map);
+    }
+    
+}
@@ -0,0 +1,71 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * The games featured in the client, read from a {@code FeaturedGames}
+ * response.
+ * 
+ * @see     riotapiwrapper.request.FeaturedGames
+ */
+public class FeaturedGamesDto extends Dto {
+    
+    private long clientRefreshInterval;
+    private List<CurrentGameDto> gameList = Collections.emptyList();
+    
+    FeaturedGamesDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the games of a response to {@code FeaturedGames.get()}.
+     * 
+     * @param response  A successful response for featured games.
+     * @return          The featured games.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static FeaturedGamesDto of(Response response) {
+        return new FeaturedGamesDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "clientRefreshInterval":
+                clientRefreshInterval = reader.nextLong();
+                return true;
+            case "gameList":
+                gameList = list(reader, CurrentGameDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns how many seconds to wait before requesting the featured games
+     * again.
+     * 
+     * @return  The seconds to wait before requesting them again.
+     */
+    public long clientRefreshInterval() {
+        materialize();
+        return clientRefreshInterval;
+    }
+    
+    /**
+     * Returns the featured games.
+     * 
+     * @return  The featured games.
+     */
+    public List<CurrentGameDto> gameList() {
+        materialize();
+        return gameList;
+    }
+    
+}
@@ -0,0 +1,140 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A participant in a game in progress.
+ * 
+ * @see     CurrentGameDto
+ */
+public class GameParticipantDto extends Dto {
+    
+    private long summonerId;
+    private String summonerName;
+    private long championId;
+    private long teamId;
+    private long spell1Id;
+    private long spell2Id;
+    private long profileIconId;
+    private boolean bot;
+    
+    GameParticipantDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "summonerId":
+                summonerId = reader.nextLong();
+                return true;
+            case "summonerName":
+                summonerName = reader.nextString();
+                return true;
+            case "championId":
+                championId = reader.nextLong();
+                return true;
+            case "teamId":
+                teamId = reader.nextLong();
+                return true;
+            case "spell1Id":
+                spell1Id = reader.nextLong();
+                return true;
+            case "spell2Id":
+                spell2Id = reader.nextLong();
+                return true;
+            case "profileIconId":
+                profileIconId = reader.nextLong();
+                return true;
+            case "bot":
+                bot = reader.nextBoolean();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the id of the participant's summoner, or 0 in a featured game,
+     * which does not hold it.
+     * 
+     * @return  The id of the participant's summoner.
+     */
+    public long summonerId() {
+        materialize();
+        return summonerId;
+    }
+    
+    /**
+     * Returns the name of the participant's summoner.
+     * 
+     * @return  The name of the participant's summoner.
+     */
+    public String summonerName() {
+        materialize();
+        return summonerName;
+    }
+    
+    /**
+     * Returns the id of the participant's champion.
+     * 
+     * @return  The id of the participant's champion.
+     */
+    public long championId() {
+        materialize();
+        return championId;
+    }
+    
+    /**
+     * Returns the id of the participant's team.
+     * 
+     * @return  The id of the participant's team.
+     */
+    public long teamId() {
+        materialize();
+        return teamId;
+    }
+    
+    /**
+     * Returns the id of the participant's first summoner spell.
+     * 
+     * @return  The id of the first summoner spell.
+     */
+    public long spell1Id() {
+        materialize();
+        return spell1Id;
+    }
+    
+    /**
+     * Returns the id of the participant's second summoner spell.
+     * 
+     * @return  The id of the second summoner spell.
+     */
+    public long spell2Id() {
+        materialize();
+        return spell2Id;
+    }
+    
+    /**
+     * Returns the id of the summoner's profile icon.
+     * 
+     * @return  The id of the summoner's profile icon.
+     */
+    public long profileIconId() {
+        materialize();
+        return profileIconId;
+    }
+    
+    /**
+     * Returns true if the participant is a bot.
+     * 
+     * @return  true if the participant is a bot.
+     */
+    public boolean bot() {
+        materialize();
+        return bot;
+    }
+    
+}
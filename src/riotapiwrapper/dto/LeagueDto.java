@@ -0,0 +1,137 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A league, read from a {@code League} response.
+ * 
+ * @see     riotapiwrapper.request.League
+ */
+public class LeagueDto extends Dto {
+    
+    private String name;
+    private String tier;
+    private String queue;
+    private String participantId;
+    private List<LeagueEntryDto> entries = Collections.emptyList();
+    
+    LeagueDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the league of a response to {@code League.challenger()}.
+     * 
+     * @param response  A successful response for a league.
+     * @return          The league.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static LeagueDto of(Response response) {
+        return new LeagueDto(body(response));
+    }
+    
+    /**
+     * Reads the leagues of a response to {@code League.bySummoner()},
+     * {@code League.byTeam()} or the requests for their entries, by the id of
+     * the summoner or team they were requested for.
+     * 
+     * @param response  A successful response for leagues.
+     * @return          The leagues of each summoner or team, by id.
+     * @throws  IllegalArgumentException if the response was not successful
+     *          or is not a JSON object.
+     */
+    public static Map<String, List<LeagueDto>> map(Response response) {
+        JsonReader reader = new JsonReader(body(response));
+        Map<String, List<LeagueDto>> map =
+                new LinkedHashMap<String, List<LeagueDto>>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            map.put(reader.nextName(), list(reader, LeagueDto::new));
+        }
+        reader.endObject();
+        return Collections.unmodifiableMap(map);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "name":
+                this.name = reader.nextString();
+                return true;
+            case "tier":
+                tier = reader.nextString();
+                return true;
+            case "queue":
+                queue = reader.nextString();
+                return true;
+            case "participantId":
+                participantId = reader.nextString();
+                return true;
+            case "entries":
+                entries = list(reader, LeagueEntryDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the league's name.
+     * 
+     * @return  The league's name.
+     */
+    public String name() {
+        materialize();
+        return name;
+    }
+    
+    /**
+     * Returns the league's tier, like "GOLD".
+     * 
+     * @return  The league's tier.
+     */
+    public String tier() {
+        materialize();
+        return tier;
+    }
+    
+    /**
+     * Returns the queue the league is for, like "RANKED_SOLO_5x5".
+     * 
+     * @return  The league's queue.
+     */
+    public String queue() {
+        materialize();
+        return queue;
+    }
+    
+    /**
+     * Returns the id of the summoner or team the league was requested for, or
+     * null if it was not requested for one.
+     * 
+     * @return  The id the league was requested for.
+     */
+    public String participantId() {
+        materialize();
+        return participantId;
+    }
+    
+    /**
+     * Returns the league's entries. Leagues requested for their entries only
+     * hold the entry of the summoner or team they were requested for.
+     * 
+     * @return  The league's entries.
+     */
+    public List<LeagueEntryDto> entries() {
+        materialize();
+        return entries;
+    }
+    
+}
@@ -0,0 +1,168 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summoner's or team's entry in a league.
+ * 
+ * @see     LeagueDto
+ */
+public class LeagueEntryDto extends Dto {
+    
+    private String playerOrTeamId;
+    private String playerOrTeamName;
+    private String division;
+    private int leaguePoints;
+    private int wins;
+    private int losses;
+    private boolean hotStreak;
+    private boolean veteran;
+    private boolean freshBlood;
+    private boolean inactive;
+    
+    LeagueEntryDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "playerOrTeamId":
+                playerOrTeamId = reader.nextString();
+                return true;
+            case "playerOrTeamName":
+                playerOrTeamName = reader.nextString();
+                return true;
+            case "division":
+                division = reader.nextString();
+                return true;
+            case "leaguePoints":
+                leaguePoints = reader.nextInt();
+                return true;
+            case "wins":
+                wins = reader.nextInt();
+                return true;
+            case "losses":
+                losses = reader.nextInt();
+                return true;
+            case "isHotStreak":
+                hotStreak = reader.nextBoolean();
+                return true;
+            case "isVeteran":
+                veteran = reader.nextBoolean();
+                return true;
+            case "isFreshBlood":
+                freshBlood = reader.nextBoolean();
+                return true;
+            case "isInactive":
+                inactive = reader.nextBoolean();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the id of the summoner or team.
+     * 
+     * @return  The id of the summoner or team.
+     */
+    public String playerOrTeamId() {
+        materialize();
+        return playerOrTeamId;
+    }
+    
+    /**
+     * Returns the name of the summoner or team.
+     * 
+     * @return  The name of the summoner or team.
+     */
+    public String playerOrTeamName() {
+        materialize();
+        return playerOrTeamName;
+    }
+    
+    /**
+     * Returns the division within the league's tier, like "II".
+     * 
+     * @return  The division.
+     */
+    public String division() {
+        materialize();
+        return division;
+    }
+    
+    /**
+     * Returns the league points.
+     * 
+     * @return  The league points.
+     */
+    public int leaguePoints() {
+        materialize();
+        return leaguePoints;
+    }
+    
+    /**
+     * Returns the number of games won.
+     * 
+     * @return  The number of games won.
+     */
+    public int wins() {
+        materialize();
+        return wins;
+    }
+    
+    /**
+     * Returns the number of games lost.
+     * 
+     * @return  The number of games lost.
+     */
+    public int losses() {
+        materialize();
+        return losses;
+    }
+    
+    /**
+     * Returns true if the summoner or team is on a winning streak.
+     * 
+     * @return  true if on a winning streak.
+     */
+    public boolean isHotStreak() {
+        materialize();
+        return hotStreak;
+    }
+    
+    /**
+     * Returns true if the summoner or team has played many games in the
+     * league.
+     * 
+     * @return  true if a veteran of the league.
+     */
+    public boolean isVeteran() {
+        materialize();
+        return veteran;
+    }
+    
+    /**
+     * Returns true if the summoner or team joined the league recently.
+     * 
+     * @return  true if new to the league.
+     */
+    public boolean isFreshBlood() {
+        materialize();
+        return freshBlood;
+    }
+    
+    /**
+     * Returns true if the summoner or team has not played for a while.
+     * 
+     * @return  true if inactive.
+     */
+    public boolean isInactive() {
+        materialize();
+        return inactive;
+    }
+    
+}
@@ -0,0 +1,258 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A match's details, read from a {@code Match} response.
+ * <p>
+ * The match's timeline is not read, since it is most of a match's JSON; its
+ * bytes are returned by {@code timeline()} to be read separately.
+ * 
+ * @see     riotapiwrapper.request.Match
+ */
+public class MatchDto extends Dto {
+    
+    private long matchId;
+    private String region;
+    private String platformId;
+    private String matchMode;
+    private String matchType;
+    private long matchCreation;
+    private long matchDuration;
+    private String queueType;
+    private int mapId;
+    private String season;
+    private String matchVersion;
+    private List<ParticipantDto> participants = Collections.emptyList();
+    private List<ParticipantIdentityDto> participantIdentities =
+            Collections.emptyList();
+    private List<TeamDto> teams = Collections.emptyList();
+    private ByteBuffer timeline;
+    
+    MatchDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the match of a response to {@code Match.match()}.
+     * 
+     * @param response  A successful response for a match.
+     * @return          The match.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static MatchDto of(Response response) {
+        return new MatchDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "matchId":
+                matchId = reader.nextLong();
+                return true;
+            case "region":
+                region = reader.nextString();
+                return true;
+            case "platformId":
+                platformId = reader.nextString();
+                return true;
+            case "matchMode":
+                matchMode = reader.nextString();
+                return true;
+            case "matchType":
+                matchType = reader.nextString();
+                return true;
+            case "matchCreation":
+                matchCreation = reader.nextLong();
+                return true;
+            case "matchDuration":
+                matchDuration = reader.nextLong();
+                return true;
+            case "queueType":
+                queueType = reader.nextString();
+                return true;
+            case "mapId":
+                mapId = reader.nextInt();
+                return true;
+            case "season":
+                season = reader.nextString();
+                return true;
+            case "matchVersion":
+                matchVersion = reader.nextString();
+                return true;
+            case "participants":
+                participants = list(reader, ParticipantDto::new);
+                return true;
+            case "participantIdentities":
+                participantIdentities = list(reader,
+                        ParticipantIdentityDto::new);
+                return true;
+            case "teams":
+                teams = list(reader, TeamDto::new);
+                return true;
+            case "timeline":
+                timeline = reader.nextRaw();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the match's id.
+     * 
+     * @return  The match's id.
+     */
+    public long matchId() {
+        materialize();
+        return matchId;
+    }
+    
+    /**
+     * Returns the region the match was played in, like "NA".
+     * 
+     * @return  The match's region.
+     */
+    public String region() {
+        materialize();
+        return region;
+    }
+    
+    /**
+     * Returns the id of the platform the match was played on, like "NA1".
+     * 
+     * @return  The match's platform id.
+     */
+    public String platformId() {
+        materialize();
+        return platformId;
+    }
+    
+    /**
+     * Returns the match's mode, like "CLASSIC".
+     * 
+     * @return  The match's mode.
+     */
+    public String matchMode() {
+        materialize();
+        return matchMode;
+    }
+    
+    /**
+     * Returns the match's type, like "MATCHED_GAME".
+     * 
+     * @return  The match's type.
+     */
+    public String matchType() {
+        materialize();
+        return matchType;
+    }
+    
+    /**
+     * Returns when the match was created, in milliseconds since the epoch.
+     * 
+     * @return  When the match was created.
+     */
+    public long matchCreation() {
+        materialize();
+        return matchCreation;
+    }
+    
+    /**
+     * Returns the match's duration in seconds.
+     * 
+     * @return  The match's duration in seconds.
+     */
+    public long matchDuration() {
+        materialize();
+        return matchDuration;
+    }
+    
+    /**
+     * Returns the queue the match was played in, like "RANKED_SOLO_5x5".
+     * 
+     * @return  The match's queue.
+     */
+    public String queueType() {
+        materialize();
+        return queueType;
+    }
+    
+    /**
+     * Returns the id of the map the match was played on.
+     * 
+     * @return  The match's map id.
+     */
+    public int mapId() {
+        materialize();
+        return mapId;
+    }
+    
+    /**
+     * Returns the season the match was played in, like "SEASON2015".
+     * 
+     * @return  The match's season.
+     */
+    public String season() {
+        materialize();
+        return season;
+    }
+    
+    /**
+     * Returns the version of the game the match was played on.
+     * 
+     * @return  The match's version.
+     */
+    public String matchVersion() {
+        materialize();
+        return matchVersion;
+    }
+    
+    /**
+     * Returns the match's participants.
+     * 
+     * @return  The match's participants.
+     */
+    public List<ParticipantDto> participants() {
+        materialize();
+        return participants;
+    }
+    
+    /**
+     * Returns who the match's participants are. Only ranked matches hold
+     * their participants' summoners.
+     * 
+     * @return  The identities of the match's participants.
+     */
+    public List<ParticipantIdentityDto> participantIdentities() {
+        materialize();
+        return participantIdentities;
+    }
+    
+    /**
+     * Returns the match's teams.
+     * 
+     * @return  The match's teams.
+     */
+    public List<TeamDto> teams() {
+        materialize();
+        return teams;
+    }
+    
+    /**
+     * Returns the bytes of the match's timeline, or null if it was not
+     * requested with its timeline.
+     * 
+     * @return  A read only buffer of the timeline's JSON, or null.
+     */
+    public ByteBuffer timeline() {
+        materialize();
+        return timeline == null ? null : timeline.duplicate();
+    }
+    
+}
@@ -0,0 +1,127 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A participant in a match.
+ * 
+ * @see     MatchDto
+ */
+public class ParticipantDto extends Dto {
+    
+    private int participantId;
+    private int teamId;
+    private int championId;
+    private int spell1Id;
+    private int spell2Id;
+    private String highestAchievedSeasonTier;
+    private ParticipantStatsDto stats;
+    
+    ParticipantDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "participantId":
+                participantId = reader.nextInt();
+                return true;
+            case "teamId":
+                teamId = reader.nextInt();
+                return true;
+            case "championId":
+                championId = reader.nextInt();
+                return true;
+            case "spell1Id":
+                spell1Id = reader.nextInt();
+                return true;
+            case "spell2Id":
+                spell2Id = reader.nextInt();
+                return true;
+            case "highestAchievedSeasonTier":
+                highestAchievedSeasonTier = reader.nextString();
+                return true;
+            case "stats":
+                stats = new ParticipantStatsDto(reader.nextRaw());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the participant's id within the match.
+     * 
+     * @return  The participant's id.
+     */
+    public int participantId() {
+        materialize();
+        return participantId;
+    }
+    
+    /**
+     * Returns the id of the participant's team.
+     * 
+     * @return  The id of the participant's team.
+     */
+    public int teamId() {
+        materialize();
+        return teamId;
+    }
+    
+    /**
+     * Returns the id of the participant's champion.
+     * 
+     * @return  The id of the participant's champion.
+     */
+    public int championId() {
+        materialize();
+        return championId;
+    }
+    
+    /**
+     * Returns the id of the participant's first summoner spell.
+     * 
+     * @return  The id of the first summoner spell.
+     */
+    public int spell1Id() {
+        materialize();
+        return spell1Id;
+    }
+    
+    /**
+     * Returns the id of the participant's second summoner spell.
+     * 
+     * @return  The id of the second summoner spell.
+     */
+    public int spell2Id() {
+        materialize();
+        return spell2Id;
+    }
+    
+    /**
+     * Returns the highest tier the participant reached in the previous
+     * season, like "GOLD".
+     * 
+     * @return  The highest tier reached last season.
+     */
+    public String highestAchievedSeasonTier() {
+        materialize();
+        return highestAchievedSeasonTier;
+    }
+    
+    /**
+     * Returns the participant's statistics, or null if the match does not
+     * hold them.
+     * 
+     * @return  The participant's statistics.
+     */
+    public ParticipantStatsDto stats() {
+        materialize();
+        return stats;
+    }
+    
+}
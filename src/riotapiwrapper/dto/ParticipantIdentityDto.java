@@ -0,0 +1,104 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * The summoner a match participant was, which only ranked matches hold.
+ * 
+ * @see     MatchDto
+ */
+public class ParticipantIdentityDto extends Dto {
+    
+    private int participantId;
+    private long summonerId;
+    private String summonerName;
+    private int profileIcon;
+    
+    ParticipantIdentityDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "participantId":
+                participantId = reader.nextInt();
+                return true;
+            case "player":
+                //the player's fields are kept in this object
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (!readPlayer(reader.nextName(), reader)) {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private boolean readPlayer(String name, JsonReader reader) {
+        if (reader.peek() == JsonReader.Token.NULL) return false;
+        switch (name) {
+            case "summonerId":
+                summonerId = reader.nextLong();
+                return true;
+            case "summonerName":
+                summonerName = reader.nextString();
+                return true;
+            case "profileIcon":
+                profileIcon = reader.nextInt();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the participant's id within the match.
+     * 
+     * @return  The participant's id.
+     */
+    public int participantId() {
+        materialize();
+        return participantId;
+    }
+    
+    /**
+     * Returns the id of the participant's summoner, or 0 if the match does
+     * not hold it.
+     * 
+     * @return  The id of the participant's summoner.
+     */
+    public long summonerId() {
+        materialize();
+        return summonerId;
+    }
+    
+    /**
+     * Returns the name of the participant's summoner, or null if the match
+     * does not hold it.
+     * 
+     * @return  The name of the participant's summoner.
+     */
+    public String summonerName() {
+        materialize();
+        return summonerName;
+    }
+    
+    /**
+     * Returns the id of the summoner's profile icon, or 0 if the match does
+     * not hold it.
+     * 
+     * @return  The id of the summoner's profile icon.
+     */
+    public int profileIcon() {
+        materialize();
+        return profileIcon;
+    }
+    
+}
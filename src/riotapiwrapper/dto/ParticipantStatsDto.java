@@ -0,0 +1,190 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A match participant's statistics. Statistics without a getter can be read
+ * from {@code json()}.
+ * 
+ * @see     ParticipantDto
+ */
+public class ParticipantStatsDto extends Dto {
+    
+    private boolean winner;
+    private long kills;
+    private long deaths;
+    private long assists;
+    private long champLevel;
+    private long goldEarned;
+    private long minionsKilled;
+    private long neutralMinionsKilled;
+    private long totalDamageDealtToChampions;
+    private long wardsPlaced;
+    private final long[] items = new long[7];
+    
+    ParticipantStatsDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "winner":
+                winner = reader.nextBoolean();
+                return true;
+            case "kills":
+                kills = reader.nextLong();
+                return true;
+            case "deaths":
+                deaths = reader.nextLong();
+                return true;
+            case "assists":
+                assists = reader.nextLong();
+                return true;
+            case "champLevel":
+                champLevel = reader.nextLong();
+                return true;
+            case "goldEarned":
+                goldEarned = reader.nextLong();
+                return true;
+            case "minionsKilled":
+                minionsKilled = reader.nextLong();
+                return true;
+            case "neutralMinionsKilled":
+                neutralMinionsKilled = reader.nextLong();
+                return true;
+            case "totalDamageDealtToChampions":
+                totalDamageDealtToChampions = reader.nextLong();
+                return true;
+            case "wardsPlaced":
+                wardsPlaced = reader.nextLong();
+                return true;
+            default:
+                //item0 to item6
+                if (name.length() == 5 && name.startsWith("item")) {
+                    int slot = name.charAt(4) - '0';
+                    if (slot >= 0 && slot < items.length) {
+                        items[slot] = reader.nextLong();
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+    
+    /**
+     * Returns true if the participant's team won.
+     * 
+     * @return  true if the participant won.
+     */
+    public boolean winner() {
+        materialize();
+        return winner;
+    }
+    
+    /**
+     * Returns the number of champions the participant killed.
+     * 
+     * @return  The participant's kills.
+     */
+    public long kills() {
+        materialize();
+        return kills;
+    }
+    
+    /**
+     * Returns the number of times the participant died.
+     * 
+     * @return  The participant's deaths.
+     */
+    public long deaths() {
+        materialize();
+        return deaths;
+    }
+    
+    /**
+     * Returns the number of kills the participant assisted.
+     * 
+     * @return  The participant's assists.
+     */
+    public long assists() {
+        materialize();
+        return assists;
+    }
+    
+    /**
+     * Returns the level the participant's champion reached.
+     * 
+     * @return  The champion's level.
+     */
+    public long champLevel() {
+        materialize();
+        return champLevel;
+    }
+    
+    /**
+     * Returns the gold the participant earned.
+     * 
+     * @return  The gold earned.
+     */
+    public long goldEarned() {
+        materialize();
+        return goldEarned;
+    }
+    
+    /**
+     * Returns the number of minions the participant killed.
+     * 
+     * @return  The minions killed.
+     */
+    public long minionsKilled() {
+        materialize();
+        return minionsKilled;
+    }
+    
+    /**
+     * Returns the number of neutral monsters the participant killed.
+     * 
+     * @return  The neutral monsters killed.
+     */
+    public long neutralMinionsKilled() {
+        materialize();
+        return neutralMinionsKilled;
+    }
+    
+    /**
+     * Returns the damage the participant dealt to champions.
+     * 
+     * @return  The damage dealt to champions.
+     */
+    public long totalDamageDealtToChampions() {
+        materialize();
+        return totalDamageDealtToChampions;
+    }
+    
+    /**
+     * Returns the number of wards the participant placed.
+     * 
+     * @return  The wards placed.
+     */
+    public long wardsPlaced() {
+        materialize();
+        return wardsPlaced;
+    }
+    
+    /**
+     * Returns the id of the item in one of the participant's item slots at
+     * the end of the match, or 0 if the slot was empty.
+     * 
+     * @param slot  The item slot, from 0 to 6.
+     * @return      The id of the item in the slot.
+     * @throws  IndexOutOfBoundsException if slot is not from 0 to 6.
+     */
+    public long item(int slot) {
+        materialize();
+        return items[slot];
+    }
+    
+}
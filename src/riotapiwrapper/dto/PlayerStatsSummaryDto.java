@@ -0,0 +1,99 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summary of a summoner's statistics for one queue.
+ * 
+ * @see     PlayerStatsSummaryListDto
+ */
+public class PlayerStatsSummaryDto extends Dto {
+    
+    private String playerStatSummaryType;
+    private int wins;
+    private int losses;
+    private long modifyDate;
+    private AggregatedStatsDto aggregatedStats;
+    
+    PlayerStatsSummaryDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "playerStatSummaryType":
+                playerStatSummaryType = reader.nextString();
+                return true;
+            case "wins":
+                wins = reader.nextInt();
+                return true;
+            case "losses":
+                losses = reader.nextInt();
+                return true;
+            case "modifyDate":
+                modifyDate = reader.nextLong();
+                return true;
+            case "aggregatedStats":
+                aggregatedStats = new AggregatedStatsDto(reader.nextRaw());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the queue the summary is for, like "RankedSolo5x5".
+     * 
+     * @return  The queue the summary is for.
+     */
+    public String playerStatSummaryType() {
+        materialize();
+        return playerStatSummaryType;
+    }
+    
+    /**
+     * Returns the number of games won.
+     * 
+     * @return  The number of games won.
+     */
+    public int wins() {
+        materialize();
+        return wins;
+    }
+    
+    /**
+     * Returns the number of games lost, which is only sent for ranked
+     * queues.
+     * 
+     * @return  The number of games lost.
+     */
+    public int losses() {
+        materialize();
+        return losses;
+    }
+    
+    /**
+     * Returns when the summary last changed, in milliseconds since the
+     * epoch.
+     * 
+     * @return  When the summary last changed.
+     */
+    public long modifyDate() {
+        materialize();
+        return modifyDate;
+    }
+    
+    /**
+     * Returns the statistics for the queue, or null if there are none.
+     * 
+     * @return  The statistics for the queue.
+     */
+    public AggregatedStatsDto aggregatedStats() {
+        materialize();
+        return aggregatedStats;
+    }
+    
+}
@@ -0,0 +1,71 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summary of a summoner's statistics for each queue, read from a response
+ * to {@code Stats.summary()}.
+ * 
+ * @see     riotapiwrapper.request.Stats
+ */
+public class PlayerStatsSummaryListDto extends Dto {
+    
+    private long summonerId;
+    private List<PlayerStatsSummaryDto> playerStatSummaries =
+            Collections.emptyList();
+    
+    PlayerStatsSummaryListDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the summaries of a response to {@code Stats.summary()}.
+     * 
+     * @param response  A successful response for a summary of statistics.
+     * @return          The summaries.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static PlayerStatsSummaryListDto of(Response response) {
+        return new PlayerStatsSummaryListDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "summonerId":
+                summonerId = reader.nextLong();
+                return true;
+            case "playerStatSummaries":
+                playerStatSummaries = list(reader, PlayerStatsSummaryDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the summoner's id.
+     * 
+     * @return  The summoner's id.
+     */
+    public long summonerId() {
+        materialize();
+        return summonerId;
+    }
+    
+    /**
+     * Returns the summary for each queue the summoner played.
+     * 
+     * @return  The summary for each queue.
+     */
+    public List<PlayerStatsSummaryDto> playerStatSummaries() {
+        materialize();
+        return playerStatSummaries;
+    }
+    
+}
@@ -0,0 +1,219 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * Reads only the fields asked for from a response's JSON, and skips
+ * everything else without decoding it.
+ * <p>
+ * A {@code Projection} is made once with the paths of the fields to read,
+ * like {@code "queueType"} or {@code "participants[].stats.kills"}, where each
+ * name is a field of the object before it and {@code []} after a name means
+ * the field is an array whose every element is read. It is meant for
+ * {@code Match} and {@code MatchHistory} responses, where most analytics need
+ * a few numbers out of a large document, and can be used for the JSON of any
+ * response:
+ * <pre>
+ * Projection kda = new Projection("participants[].championId",
+ *         "participants[].stats.kills", "participants[].stats.deaths");
+ * kda.read(response, (path, element, reader) -&gt; totals[path] += reader.nextLong());
+ * </pre>
+ * <p>
+ * Field names are compared with the bytes of the JSON, and fields not on a
+ * path are skipped a byte at a time, so reading a projection allocates
+ * little more than its reader. A {@code Projection} can be shared between
+ * threads.
+ * 
+ * @see     riotapiwrapper.request.Match
+ * @see     riotapiwrapper.request.MatchHistory
+ */
+public final class Projection {
+    
+    /**
+     * Receives the values of a projection's fields as they are read.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        
+        /**
+         * Reads the value of one of a projection's fields from the reader. The
+         * value is skipped if it is not read, and must be read whole if it
+         * is. Fields that are null are not visited.
+         * 
+         * @param path      The index of the field's path in the projection.
+         * @param element   The index of the element of the innermost array
+         *                  on the field's path, or 0 if it has none.
+         * @param reader    The reader, with the field's value next.
+         */
+        public void value(int path, int element, JsonReader reader);
+        
+    }
+    
+    private final String[] paths;
+    private final Node root = new Node();
+    
+    /**
+     * Creates a {@code Projection} of the fields at the given paths.
+     * 
+     * @param paths The paths of the fields to read, like
+     *              {@code "participants[].stats.winner"}.
+     * @throws  IllegalArgumentException if a path is empty, or is given
+     *          twice, or leads into a field another path reads whole.
+     */
+    public Projection(String... paths) {
+        this.paths = paths.clone();
+        for (int i = 0; i < paths.length; i++) {
+            add(paths[i], i);
+        }
+    }
+    
+    /**
+     * Reads the projection's fields from a response.
+     * 
+     * @param response  A successful response.
+     * @param visitor   Receives the values of the fields.
+     * @throws  IllegalArgumentException if the response was not successful,
+     *          or its JSON is malformed.
+     */
+    public void read(Response response, Visitor visitor) {
+        read(Dto.body(response), visitor);
+    }
+    
+    /**
+     * Reads the projection's fields from the bytes of a JSON document, like
+     * those of a match kept in a {@code MatchStore}. The buffer's position is
+     * not changed.
+     * 
+     * @param json      The UTF-8 bytes of the JSON document.
+     * @param visitor   Receives the values of the fields.
+     * @throws  IllegalArgumentException if the JSON is malformed.
+     */
+    public void read(ByteBuffer json, Visitor visitor) {
+        JsonReader reader = new JsonReader(json);
+        element(reader, root, 0, visitor);
+    }
+    
+    /**
+     * Returns the number of paths in the projection.
+     * 
+     * @return  The number of paths.
+     */
+    public int size() {
+        return paths.length;
+    }
+    
+    /**
+     * Returns one of the projection's paths.
+     * 
+     * @param index The index of the path.
+     * @return      The path.
+     */
+    public String path(int index) {
+        return paths[index];
+    }
+    
+    @Override
+    public String toString() {
+        return Arrays.toString(paths);
+    }
+    
+    private void add(String path, int index) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("a path cannot be empty");
+        }
+        Node node = root;
+        for (String segment : path.split("\\.", -1)) {
+            boolean array = segment.endsWith("[]");
+            String name = array
+                    ? segment.substring(0, segment.length() - 2) : segment;
+            if (name.isEmpty() || node.path >= 0) {
+                throw new IllegalArgumentException("invalid path: " + path);
+            }
+            Node child = node.child(name.getBytes(StandardCharsets.UTF_8));
+            if (child.names.length > 0 && child.array != array) {
+                throw new IllegalArgumentException("invalid path: " + path);
+            }
+            child.array = array;
+            node = child;
+        }
+        if (node.path >= 0 || node.names.length > 0) {
+            throw new IllegalArgumentException("invalid path: " + path);
+        }
+        node.path = index;
+    }
+    
+    /*
+     * Reads the value of a field, which is an array if the field's node is.
+     */
+    private static void value(JsonReader reader, Node node, int element,
+            Visitor visitor) {
+        if (!node.array) {
+            element(reader, node, element, visitor);
+            return;
+        }
+        if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginArray();
+        for (int i = 0; reader.hasNext(); i++) {
+            element(reader, node, i, visitor);
+        }
+        reader.endArray();
+    }
+    
+    private static void element(JsonReader reader, Node node, int element,
+            Visitor visitor) {
+        JsonReader.Token token = reader.peek();
+        if (token == JsonReader.Token.NULL) {
+            reader.skipValue();
+        } else if (node.path >= 0) {
+            int start = reader.position();
+            visitor.value(node.path, element, reader);
+            //the visitor did not read the value
+            if (reader.position() == start) reader.skipValue();
+        } else if (token != JsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue();
+        } else {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                int field = reader.nextName(node.names);
+                if (field < 0) {
+                    reader.skipValue();
+                } else {
+                    value(reader, node.children[field], element, visitor);
+                }
+            }
+            reader.endObject();
+        }
+    }
+    
+    /*
+     * A field on the way to a path, with the fields read inside it.
+     */
+    private static final class Node {
+        
+        private byte[][] names = new byte[0][];
+        private Node[] children = new Node[0];
+        private boolean array;
+        private int path = -1;
+        
+        private Node child(byte[] name) {
+            for (int i = 0; i < names.length; i++) {
+                if (Arrays.equals(names[i], name)) return children[i];
+            }
+            names = Arrays.copyOf(names, names.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            names[names.length - 1] = name;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+        
+    }
+    
+}
@@ -0,0 +1,86 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summoner's ranked statistics for each champion, read from a response to
+ * {@code Stats.ranked()}.
+ * 
+ * @see     riotapiwrapper.request.Stats
+ */
+public class RankedStatsDto extends Dto {
+    
+    private long summonerId;
+    private long modifyDate;
+    private List<ChampionStatsDto> champions = Collections.emptyList();
+    
+    RankedStatsDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the ranked statistics of a response to {@code Stats.ranked()}.
+     * 
+     * @param response  A successful response for ranked statistics.
+     * @return          The ranked statistics.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static RankedStatsDto of(Response response) {
+        return new RankedStatsDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "summonerId":
+                summonerId = reader.nextLong();
+                return true;
+            case "modifyDate":
+                modifyDate = reader.nextLong();
+                return true;
+            case "champions":
+                champions = list(reader, ChampionStatsDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the summoner's id.
+     * 
+     * @return  The summoner's id.
+     */
+    public long summonerId() {
+        materialize();
+        return summonerId;
+    }
+    
+    /**
+     * Returns when the statistics last changed, in milliseconds since the
+     * epoch.
+     * 
+     * @return  When the statistics last changed.
+     */
+    public long modifyDate() {
+        materialize();
+        return modifyDate;
+    }
+    
+    /**
+     * Returns the statistics for each champion. The champion with id 0 holds
+     * the statistics for every champion together.
+     * 
+     * @return  The statistics for each champion.
+     */
+    public List<ChampionStatsDto> champions() {
+        materialize();
+        return champions;
+    }
+    
+}
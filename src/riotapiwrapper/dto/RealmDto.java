@@ -0,0 +1,135 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A region's realm, which holds the newest version of its static data, read
+ * from a response to {@code LolStaticData.realm()}.
+ * 
+ * @see     riotapiwrapper.request.LolStaticData
+ */
+public class RealmDto extends Dto {
+    
+    private String v;
+    private String l;
+    private String cdn;
+    private String dd;
+    private Map<String, String> n = Collections.emptyMap();
+    
+    RealmDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the realm of a response to {@code LolStaticData.realm()}.
+     * 
+     * @param response  A successful response for a realm.
+     * @return          The realm.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static RealmDto of(Response response) {
+        return new RealmDto(body(response));
+    }
+    
+    /**
+     * Reads the versions of a response to {@code LolStaticData.versions()},
+     * newest first.
+     * 
+     * @param response  A successful response for the versions.
+     * @return          The versions, newest first.
+     * @throws  IllegalArgumentException if the response was not successful
+     *          or is not a JSON array.
+     */
+    public static List<String> versions(Response response) {
+        JsonReader reader = new JsonReader(body(response));
+        List<String> versions = new ArrayList<String>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            versions.add(reader.nextString());
+        }
+        reader.endArray();
+        return Collections.unmodifiableList(versions);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "v":
+                v = reader.nextString();
+                return true;
+            case "l":
+                l = reader.nextString();
+                return true;
+            case "cdn":
+                cdn = reader.nextString();
+                return true;
+            case "dd":
+                dd = reader.nextString();
+                return true;
+            case "n":
+                n = strings(reader);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the newest version of the realm's static data.
+     * 
+     * @return  The newest version.
+     */
+    public String version() {
+        materialize();
+        return v;
+    }
+    
+    /**
+     * Returns the realm's default locale.
+     * 
+     * @return  The default locale.
+     */
+    public String locale() {
+        materialize();
+        return l;
+    }
+    
+    /**
+     * Returns the base url of the content delivery network.
+     * 
+     * @return  The base url of the content delivery network.
+     */
+    public String cdn() {
+        materialize();
+        return cdn;
+    }
+    
+    /**
+     * Returns the newest version of Data Dragon.
+     * 
+     * @return  The newest version of Data Dragon.
+     */
+    public String dataDragonVersion() {
+        materialize();
+        return dd;
+    }
+    
+    /**
+     * Returns the newest version of each type of static data, like
+     * "champion".
+     * 
+     * @return  The newest version of each type of static data.
+     */
+    public Map<String, String> versionsByType() {
+        materialize();
+        return n;
+    }
+    
+}
@@ -0,0 +1,128 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A champion, item, mastery, rune or summoner spell. The fields they share
+ * have getters, and the data asked for with a request's data tags can be
+ * read from {@code json()}.
+ * 
+ * @see     StaticListDto
+ */
+public class StaticEntryDto extends Dto {
+    
+    private long id;
+    private String key;
+    private String name;
+    private String title;
+    private String description;
+    private String plaintext;
+    
+    StaticEntryDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the entry of a response to {@code LolStaticData.champion()},
+     * {@code item()}, {@code mastery()}, {@code rune()} or
+     * {@code summonerSpell()}.
+     * 
+     * @param response  A successful response for one entry of static data.
+     * @return          The entry.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static StaticEntryDto of(Response response) {
+        return new StaticEntryDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "id":
+                id = reader.nextLong();
+                return true;
+            case "key":
+                key = reader.nextString();
+                return true;
+            case "name":
+                this.name = reader.nextString();
+                return true;
+            case "title":
+                title = reader.nextString();
+                return true;
+            case "description":
+                description = reader.nextString();
+                return true;
+            case "plaintext":
+                plaintext = reader.nextString();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the entry's id.
+     * 
+     * @return  The entry's id.
+     */
+    public long id() {
+        materialize();
+        return id;
+    }
+    
+    /**
+     * Returns a champion's or summoner spell's key, like "MonkeyKing", or
+     * null for other entries.
+     * 
+     * @return  The entry's key.
+     */
+    public String key() {
+        materialize();
+        return key;
+    }
+    
+    /**
+     * Returns the entry's name.
+     * 
+     * @return  The entry's name.
+     */
+    public String name() {
+        materialize();
+        return name;
+    }
+    
+    /**
+     * Returns a champion's title, or null for other entries.
+     * 
+     * @return  The champion's title.
+     */
+    public String title() {
+        materialize();
+        return title;
+    }
+    
+    /**
+     * Returns the entry's description, or null if it has none.
+     * 
+     * @return  The entry's description.
+     */
+    public String description() {
+        materialize();
+        return description;
+    }
+    
+    /**
+     * Returns an item's short description, or null for other entries.
+     * 
+     * @return  The item's short description.
+     */
+    public String plaintext() {
+        materialize();
+        return plaintext;
+    }
+    
+}
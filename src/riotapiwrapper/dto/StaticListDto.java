@@ -0,0 +1,102 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A list of champions, items, masteries, runes or summoner spells, read from
+ * a {@code LolStaticData} response.
+ * 
+ * @see     riotapiwrapper.request.LolStaticData
+ */
+public class StaticListDto extends Dto {
+    
+    private String type;
+    private String version;
+    private Map<String, StaticEntryDto> data = Collections.emptyMap();
+    private Map<String, String> keys = Collections.emptyMap();
+    
+    StaticListDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the list of a response to {@code LolStaticData.champions()},
+     * {@code items()}, {@code masteries()}, {@code runes()} or
+     * {@code summonerSpells()}.
+     * 
+     * @param response  A successful response for a list of static data.
+     * @return          The list.
+     * @throws  IllegalArgumentException if the response was not successful.
+     */
+    public static StaticListDto of(Response response) {
+        return new StaticListDto(body(response));
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "type":
+                type = reader.nextString();
+                return true;
+            case "version":
+                version = reader.nextString();
+                return true;
+            case "data":
+                data = map(reader, StaticEntryDto::new);
+                return true;
+            case "keys":
+                keys = strings(reader);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the type of the list, like "champion".
+     * 
+     * @return  The type of the list.
+     */
+    public String type() {
+        materialize();
+        return type;
+    }
+    
+    /**
+     * Returns the version of the static data.
+     * 
+     * @return  The version of the static data.
+     */
+    public String version() {
+        materialize();
+        return version;
+    }
+    
+    /**
+     * Returns the entries of the list, by id, or by key for champions not
+     * requested by id.
+     * 
+     * @return  The entries of the list.
+     */
+    public Map<String, StaticEntryDto> data() {
+        materialize();
+        return data;
+    }
+    
+    /**
+     * Returns the champions' keys by id, or their ids by key if they were
+     * requested by id. Only lists of champions have keys.
+     * 
+     * @return  The champions' keys.
+     */
+    public Map<String, String> keys() {
+        materialize();
+        return keys;
+    }
+    
+}
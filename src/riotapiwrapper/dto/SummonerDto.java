@@ -0,0 +1,115 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A summoner's basic data, read from a {@code Summoner} response.
+ * 
+ * @see     riotapiwrapper.request.Summoner
+ */
+public class SummonerDto extends Dto {
+    
+    private long id;
+    private String name;
+    private int profileIconId;
+    private long summonerLevel;
+    private long revisionDate;
+    
+    SummonerDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    /**
+     * Reads the summoners of a response to {@code Summoner.byName()} or
+     * {@code Summoner.byId()}, by the standardized name or id they were
+     * requested with.
+     * 
+     * @param response  A successful response for summoners.
+     * @return          The summoners by the name or id they were requested
+     *                  with.
+     * @throws  IllegalArgumentException if the response was not successful
+     *          or is not a JSON object.
+     */
+    public static Map<String, SummonerDto> map(Response response) {
+        return map(new JsonReader(body(response)), SummonerDto::new);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "id":
+                id = reader.nextLong();
+                return true;
+            case "name":
+                this.name = reader.nextString();
+                return true;
+            case "profileIconId":
+                profileIconId = reader.nextInt();
+                return true;
+            case "summonerLevel":
+                summonerLevel = reader.nextLong();
+                return true;
+            case "revisionDate":
+                revisionDate = reader.nextLong();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the summoner's id.
+     * 
+     * @return  The summoner's id.
+     */
+    public long id() {
+        materialize();
+        return id;
+    }
+    
+    /**
+     * Returns the summoner's name, as it is displayed.
+     * 
+     * @return  The summoner's name.
+     */
+    public String name() {
+        materialize();
+        return name;
+    }
+    
+    /**
+     * Returns the id of the summoner's profile icon.
+     * 
+     * @return  The id of the summoner's profile icon.
+     */
+    public int profileIconId() {
+        materialize();
+        return profileIconId;
+    }
+    
+    /**
+     * Returns the summoner's level.
+     * 
+     * @return  The summoner's level.
+     */
+    public long summonerLevel() {
+        materialize();
+        return summonerLevel;
+    }
+    
+    /**
+     * Returns when the summoner was last changed, in milliseconds since the
+     * epoch.
+     * 
+     * @return  When the summoner was last changed.
+     */
+    public long revisionDate() {
+        materialize();
+        return revisionDate;
+    }
+    
+}
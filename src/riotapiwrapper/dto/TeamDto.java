@@ -0,0 +1,141 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * A team in a match.
+ * 
+ * @see     MatchDto
+ */
+public class TeamDto extends Dto {
+    
+    private int teamId;
+    private boolean winner;
+    private boolean firstBlood;
+    private boolean firstTower;
+    private int towerKills;
+    private int dragonKills;
+    private int baronKills;
+    private List<BannedChampionDto> bans = Collections.emptyList();
+    
+    TeamDto(ByteBuffer json) {
+        super(json);
+    }
+    
+    @Override
+    boolean read(String name, JsonReader reader) {
+        switch (name) {
+            case "teamId":
+                teamId = reader.nextInt();
+                return true;
+            case "winner":
+                winner = reader.nextBoolean();
+                return true;
+            case "firstBlood":
+                firstBlood = reader.nextBoolean();
+                return true;
+            case "firstTower":
+                firstTower = reader.nextBoolean();
+                return true;
+            case "towerKills":
+                towerKills = reader.nextInt();
+                return true;
+            case "dragonKills":
+                dragonKills = reader.nextInt();
+                return true;
+            case "baronKills":
+                baronKills = reader.nextInt();
+                return true;
+            case "bans":
+                bans = list(reader, BannedChampionDto::new);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Returns the team's id, 100 for blue and 200 for purple.
+     * 
+     * @return  The team's id.
+     */
+    public int teamId() {
+        materialize();
+        return teamId;
+    }
+    
+    /**
+     * Returns true if the team won.
+     * 
+     * @return  true if the team won.
+     */
+    public boolean winner() {
+        materialize();
+        return winner;
+    }
+    
+    /**
+     * Returns true if the team got the first kill.
+     * 
+     * @return  true if the team got first blood.
+     */
+    public boolean firstBlood() {
+        materialize();
+        return firstBlood;
+    }
+    
+    /**
+     * Returns true if the team destroyed the first tower.
+     * 
+     * @return  true if the team got the first tower.
+     */
+    public boolean firstTower() {
+        materialize();
+        return firstTower;
+    }
+    
+    /**
+     * Returns the number of towers the team destroyed.
+     * 
+     * @return  The team's tower kills.
+     */
+    public int towerKills() {
+        materialize();
+        return towerKills;
+    }
+    
+    /**
+     * Returns the number of dragons the team killed.
+     * 
+     * @return  The team's dragon kills.
+     */
+    public int dragonKills() {
+        materialize();
+        return dragonKills;
+    }
+    
+    /**
+     * Returns the number of barons the team killed.
+     * 
+     * @return  The team's baron kills.
+     */
+    public int baronKills() {
+        materialize();
+        return baronKills;
+    }
+    
+    /**
+     * Returns the champions the team banned.
+     * 
+     * @return  The team's bans.
+     */
+    public List<BannedChampionDto> bans() {
+        materialize();
+        return bans;
+    }
+    
+}
@@ -0,0 +1,458 @@
+package riotapiwrapper.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import riotapiwrapper.request.Response;
+import riotapiwrapper.util.JsonReader;
+
+/**
+ * Decodes the participant frames of a match's timeline into one array of
+ * numbers for each statistic, instead of an object for each frame.
+ * <p>
+ * The statistics of every participant in every frame are kept in the arrays
+ * returned by {@code totalGold()}, {@code xp()}, {@code x()} and the other
+ * getters, at {@code index(frame, participantId)}, which is
+ * {@code frame * stride() + participantId - 1}. Statistics a frame does not
+ * hold are 0. The arrays are reused by the next call to {@code decode()}, and
+ * only grow when a timeline has more frames than any decoded before, so a
+ * {@code TimelineColumns} kept for each thread decodes match after match
+ * without allocating, and sums over a statistic are plain loops over an
+ * array:
+ * <pre>
+ * TimelineColumns timeline = new TimelineColumns();
+ * timeline.decode(response);
+ * int last = timeline.frames() - 1;
+ * for (int id = 1; id &lt;= timeline.participants(); id++) {
+ *     gold += timeline.totalGold()[timeline.index(last, id)];
+ * }
+ * </pre>
+ * <p>
+ * A timeline's events are skipped; a {@code Projection} of
+ * {@code "timeline.frames[].events[]"} reads them if they are needed. A
+ * {@code TimelineColumns} is not safe to use from several threads at once.
+ * 
+ * @see     riotapiwrapper.request.Match#match(int, boolean)
+ */
+public final class TimelineColumns {
+    
+    private static final int PARTICIPANTS = 10;
+    private static final int MAX_PARTICIPANTS = 16;
+    
+    //the fields read, as UTF-8 bytes, at each level of the timeline
+    private static final byte[][] TOP = names("timeline", "frameInterval",
+            "frames");
+    private static final byte[][] FRAME = names("timestamp",
+            "participantFrames");
+    private static final byte[][] PARTICIPANT = names("currentGold",
+            "totalGold", "xp", "level", "minionsKilled", "jungleMinionsKilled",
+            "position");
+    private static final byte[][] POSITION = names("x", "y");
+    private static final byte[][] IDS = new byte[MAX_PARTICIPANTS][];
+    
+    static {
+        for (int i = 0; i < IDS.length; i++) {
+            IDS[i] = Integer.toString(i + 1).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+    
+    private int frames;
+    private int participants;
+    private int stride = PARTICIPANTS;
+    private int frameInterval;
+    private int capacity;
+    
+    private int[] timestamps = new int[0];
+    private int[] currentGold = new int[0];
+    private int[] totalGold = new int[0];
+    private int[] xp = new int[0];
+    private int[] level = new int[0];
+    private int[] minionsKilled = new int[0];
+    private int[] jungleMinionsKilled = new int[0];
+    private short[] x = new short[0];
+    private short[] y = new short[0];
+    
+    /**
+     * Creates an empty {@code TimelineColumns}, whose arrays grow with the
+     * first timeline decoded.
+     */
+    public TimelineColumns() {
+    }
+    
+    /**
+     * Creates a {@code TimelineColumns} with room for the given number of
+     * frames, so timelines no longer than that never allocate.
+     * 
+     * @param frames    The number of frames to make room for.
+     * @throws  IllegalArgumentException if frames is negative.
+     */
+    public TimelineColumns(int frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("frames cannot be negative");
+        }
+        grow(frames);
+    }
+    
+    /**
+     * Decodes the timeline of a response to {@code Match.match(id, true)}.
+     * 
+     * @param response  A successful response for a match with its timeline.
+     * @throws  IllegalArgumentException if the response was not successful,
+     *          or its JSON is malformed.
+     */
+    public void decode(Response response) {
+        decode(Dto.body(response));
+    }
+    
+    /**
+     * Decodes the timeline of a match. If the match was not requested with
+     * its timeline, no frames are decoded.
+     * 
+     * @param match The match.
+     * @throws  IllegalArgumentException if the match's JSON is malformed.
+     */
+    public void decode(MatchDto match) {
+        ByteBuffer timeline = match.timeline();
+        if (timeline == null) {
+            frames = 0;
+            participants = 0;
+            frameInterval = 0;
+        } else {
+            decode(timeline);
+        }
+    }
+    
+    /**
+     * Decodes the bytes of a match's JSON, like those kept in a
+     * {@code MatchStore}, or of just its timeline. The buffer's position is
+     * not changed.
+     * 
+     * @param json  The UTF-8 bytes of a match or timeline.
+     * @throws  IllegalArgumentException if the JSON is malformed.
+     */
+    public void decode(ByteBuffer json) {
+        frames = 0;
+        participants = 0;
+        frameInterval = 0;
+        JsonReader reader = new JsonReader(json);
+        object(reader);
+    }
+    
+    /**
+     * Returns the number of frames decoded.
+     * 
+     * @return  The number of frames.
+     */
+    public int frames() {
+        return frames;
+    }
+    
+    /**
+     * Returns the highest participant id decoded, which is the number of
+     * participants in the match.
+     * 
+     * @return  The number of participants.
+     */
+    public int participants() {
+        return participants;
+    }
+    
+    /**
+     * Returns how far apart each frame's statistics are in the arrays. This
+     * is 10, unless a match with more participants was decoded.
+     * 
+     * @return  The number of slots in the arrays for each frame.
+     */
+    public int stride() {
+        return stride;
+    }
+    
+    /**
+     * Returns the time between frames in milliseconds.
+     * 
+     * @return  The time between frames in milliseconds.
+     */
+    public int frameInterval() {
+        return frameInterval;
+    }
+    
+    /**
+     * Returns the time of a frame in milliseconds since the match started.
+     * 
+     * @param frame The frame, from 0 to {@code frames() - 1}.
+     * @return      The time of the frame.
+     * @throws  IndexOutOfBoundsException if there is no such frame.
+     */
+    public int timestamp(int frame) {
+        if (frame < 0 || frame >= frames) {
+            throw new IndexOutOfBoundsException("no frame " + frame);
+        }
+        return timestamps[frame];
+    }
+    
+    /**
+     * Returns where a participant's statistics in a frame are in the arrays.
+     * 
+     * @param frame         The frame, from 0 to {@code frames() - 1}.
+     * @param participantId The participant's id, from 1 to
+     *                      {@code stride()}.
+     * @return              The index of the statistics in the arrays.
+     * @throws  IndexOutOfBoundsException if there is no such frame or
+     *          participant.
+     */
+    public int index(int frame, int participantId) {
+        if (frame < 0 || frame >= frames) {
+            throw new IndexOutOfBoundsException("no frame " + frame);
+        }
+        if (participantId < 1 || participantId > stride) {
+            throw new IndexOutOfBoundsException("no participant "
+                    + participantId);
+        }
+        return frame * stride + participantId - 1;
+    }
+    
+    /**
+     * Returns the gold each participant held in each frame.
+     * 
+     * @return  The array of gold held, by {@code index()}.
+     */
+    public int[] currentGold() {
+        return currentGold;
+    }
+    
+    /**
+     * Returns the gold each participant had earned by each frame.
+     * 
+     * @return  The array of gold earned, by {@code index()}.
+     */
+    public int[] totalGold() {
+        return totalGold;
+    }
+    
+    /**
+     * Returns the experience each participant had by each frame.
+     * 
+     * @return  The array of experience, by {@code index()}.
+     */
+    public int[] xp() {
+        return xp;
+    }
+    
+    /**
+     * Returns the level of each participant in each frame.
+     * 
+     * @return  The array of levels, by {@code index()}.
+     */
+    public int[] level() {
+        return level;
+    }
+    
+    /**
+     * Returns the minions each participant had killed by each frame.
+     * 
+     * @return  The array of minions killed, by {@code index()}.
+     */
+    public int[] minionsKilled() {
+        return minionsKilled;
+    }
+    
+    /**
+     * Returns the neutral monsters each participant had killed by each frame.
+     * 
+     * @return  The array of neutral monsters killed, by {@code index()}.
+     */
+    public int[] jungleMinionsKilled() {
+        return jungleMinionsKilled;
+    }
+    
+    /**
+     * Returns the x coordinate of each participant on the map in each frame.
+     * 
+     * @return  The array of x coordinates, by {@code index()}.
+     */
+    public short[] x() {
+        return x;
+    }
+    
+    /**
+     * Returns the y coordinate of each participant on the map in each frame.
+     * 
+     * @return  The array of y coordinates, by {@code index()}.
+     */
+    public short[] y() {
+        return y;
+    }
+    
+    /*
+     * Reads a match, or a timeline, whichever the object turns out to be.
+     */
+    private void object(JsonReader reader) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int field = reader.nextName(TOP);
+            if (field < 0 || reader.peek() == JsonReader.Token.NULL) {
+                reader.skipValue();
+            } else if (field == 0) {
+                object(reader);
+            } else if (field == 1) {
+                frameInterval = reader.nextInt();
+            } else {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    frame(reader);
+                }
+                reader.endArray();
+            }
+        }
+        reader.endObject();
+    }
+    
+    private void frame(JsonReader reader) {
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        int frame = frames;
+        if (frame == capacity) grow(Math.max(64, capacity * 2));
+        timestamps[frame] = 0;
+        clear(frame * stride, frame * stride + stride);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int field = reader.nextName(FRAME);
+            if (field < 0 || reader.peek() == JsonReader.Token.NULL) {
+                reader.skipValue();
+            } else if (field == 0) {
+                timestamps[frame] = (int) reader.nextLong();
+            } else {
+                participantFrames(reader, frame);
+            }
+        }
+        reader.endObject();
+        frames = frame + 1;
+    }
+    
+    private void participantFrames(JsonReader reader, int frame) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int id = reader.nextName(IDS) + 1;
+            if (id == 0 || reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            if (id > stride) widen();
+            if (id > participants) participants = id;
+            participant(reader, frame * stride + id - 1);
+        }
+        reader.endObject();
+    }
+    
+    private void participant(JsonReader reader, int i) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int field = reader.nextName(PARTICIPANT);
+            if (field < 0 || reader.peek() == JsonReader.Token.NULL) {
+                reader.skipValue();
+                continue;
+            }
+            switch (field) {
+                case 0:
+                    currentGold[i] = reader.nextInt();
+                    break;
+                case 1:
+                    totalGold[i] = reader.nextInt();
+                    break;
+                case 2:
+                    xp[i] = reader.nextInt();
+                    break;
+                case 3:
+                    level[i] = reader.nextInt();
+                    break;
+                case 4:
+                    minionsKilled[i] = reader.nextInt();
+                    break;
+                case 5:
+                    jungleMinionsKilled[i] = reader.nextInt();
+                    break;
+                default:
+                    position(reader, i);
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+    
+    private void position(JsonReader reader, int i) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int field = reader.nextName(POSITION);
+            if (field < 0 || reader.peek() == JsonReader.Token.NULL) {
+                reader.skipValue();
+            } else if (field == 0) {
+                x[i] = (short) reader.nextInt();
+            } else {
+                y[i] = (short) reader.nextInt();
+            }
+        }
+        reader.endObject();
+    }
+    
+    private void clear(int from, int to) {
+        Arrays.fill(currentGold, from, to, 0);
+        Arrays.fill(totalGold, from, to, 0);
+        Arrays.fill(xp, from, to, 0);
+        Arrays.fill(level, from, to, 0);
+        Arrays.fill(minionsKilled, from, to, 0);
+        Arrays.fill(jungleMinionsKilled, from, to, 0);
+        Arrays.fill(x, from, to, (short) 0);
+        Arrays.fill(y, from, to, (short) 0);
+    }
+    
+    private void grow(int frames) {
+        capacity = frames;
+        int slots = capacity * stride;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        currentGold = Arrays.copyOf(currentGold, slots);
+        totalGold = Arrays.copyOf(totalGold, slots);
+        xp = Arrays.copyOf(xp, slots);
+        level = Arrays.copyOf(level, slots);
+        minionsKilled = Arrays.copyOf(minionsKilled, slots);
+        jungleMinionsKilled = Arrays.copyOf(jungleMinionsKilled, slots);
+        x = Arrays.copyOf(x, slots);
+        y = Arrays.copyOf(y, slots);
+    }
+    
+    /*
+     * Lays the arrays out again for the most participants a match can have,
+     * which is only needed for game modes with more than ten.
+     */
+    private void widen() {
+        int slots = capacity * MAX_PARTICIPANTS;
+        currentGold = widen(currentGold, new int[slots]);
+        totalGold = widen(totalGold, new int[slots]);
+        xp = widen(xp, new int[slots]);
+        level = widen(level, new int[slots]);
+        minionsKilled = widen(minionsKilled, new int[slots]);
+        jungleMinionsKilled = widen(jungleMinionsKilled, new int[slots]);
+        x = widen(x, new short[slots]);
+        y = widen(y, new short[slots]);
+        stride = MAX_PARTICIPANTS;
+    }
+    
+    private <T> T widen(T from, T to) {
+        for (int frame = 0; frame <= frames && frame < capacity; frame++) {
+            System.arraycopy(from, frame * stride, to,
+                    frame * MAX_PARTICIPANTS, stride);
+        }
+        return to;
+    }
+    
+    private static byte[][] names(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+    
+}
@@ -0,0 +1,85 @@
+package riotapiwrapper.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/*
+ * Reads response bodies in bulk into byte arrays, instead of going through a
+ * Reader one char at a time. Bodies are kept as the bytes they were received
+ * as and decoded by Response only if they are asked for as a String.
+ * 
+ * The array is sized from the Content-Length when the server sends one, so a
+ * body is normally read with no copying at all, and the array becomes the
+ * Response's body. Bodies of unknown length are read into arrays from a small
+ * shared pool and copied out once at their exact length, so a steady stream
+ * of them does not allocate a new multi-hundred-KB array for every one.
+ */
+final class BodyReader {
+    
+    private static final int DEFAULT_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_SIZE = 1024 * 1024;
+    
+    private static final ArrayBlockingQueue<byte[]> pool =
+            new ArrayBlockingQueue<byte[]>(8);
+    
+    private BodyReader() { }
+    
+    /*
+     * Reads the stream to its end. contentLength is the expected size of the
+     * body, or -1 if it is unknown.
+     */
+    static ByteBuffer readAll(InputStream is, long contentLength)
+            throws IOException {
+        boolean pooled = true;
+        int size = DEFAULT_SIZE;
+        if (contentLength >= 0 && contentLength < Integer.MAX_VALUE - 8) {
+            //one spare byte so the end of the stream is seen without growing
+            size = (int) contentLength + 1;
+            pooled = false;
+        }
+        byte[] buffer = pooled ? acquire(size) : new byte[size];
+        try {
+            int length = 0;
+            int read;
+            while (true) {
+                if (length == buffer.length) {
+                    //the old array is dropped: a pooled one is replaced in
+                    //the pool by the grown one once the body is read, and
+                    //one sized from the Content-Length was never the pool's
+                    buffer = Arrays.copyOf(buffer, grow(length));
+                }
+                read = is.read(buffer, length, buffer.length - length);
+                if (read < 0) break;
+                length += read;
+            }
+            if (!pooled) return ByteBuffer.wrap(buffer, 0, length);
+            return ByteBuffer.wrap(Arrays.copyOf(buffer, length));
+        } finally {
+            if (pooled) release(buffer);
+        }
+    }
+    
+    private static int grow(int length) {
+        if (length >= Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("response body is too large");
+        }
+        return (int) Math.min(Integer.MAX_VALUE - 8, length * 2L);
+    }
+    
+    private static byte[] acquire(int size) {
+        byte[] buffer = pool.poll();
+        if (buffer != null && buffer.length >= size) return buffer;
+        if (buffer != null) release(buffer);
+        return new byte[Math.max(size, 1)];
+    }
+    
+    private static void release(byte[] buffer) {
+        if (buffer.length > MAX_POOLED_SIZE) return;
+        if (buffer.length < DEFAULT_SIZE) return;
+        pool.offer(buffer);
+    }
+    
+}
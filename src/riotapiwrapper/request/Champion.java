@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the champion-v1.2 end point for the League of Legends public API.
@@ -25,9 +26,18 @@ public class Champion extends Request {
      * @throws  IllegalStateException if an API key has not been set.
      */
     public static Champion all() {
-        Champion all = new Champion();
-        all.build(false);
-        return all;
+        return all(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for every champion's playability status.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for every champion's playability status.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static Champion all(LolClient client) {
+        return new Champion(build(client, false));
     }
     
     /**
@@ -37,9 +47,18 @@ public class Champion extends Request {
      * @throws  IllegalStateException if an API key has not been set.
      */
     public static Champion freeToPlay() {
-        Champion free = new Champion();
-        free.build(true);
-        return free;
+        return freeToPlay(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for all free to play champions.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for all free to play champions.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static Champion freeToPlay(LolClient client) {
+        return new Champion(build(client, true));
     }
     
     /**
@@ -53,9 +72,22 @@ public class Champion extends Request {
      * @throws      IllegalStateException if an API key has not been set.
      */
     public static Champion byId(int id) {
-        Champion champ = new Champion();
-        champ.build(id);
-        return champ;
+        return byId(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for a specific champion's playability status.
+     * <p>
+     * If there isn't a champion with the specific ID, the API server will
+     * respond with a 404 error.
+     * 
+     * @param client The client the request is built with.
+     * @param id    Specified champion's ID
+     * @return      An API request for a specific champion's playability status.
+     * @throws      IllegalStateException if an API key has not been set.
+     */
+    public static Champion byId(LolClient client, int id) {
+        return new Champion(build(client, id));
     }
     
     public RequestType type() {
@@ -66,27 +98,25 @@ public class Champion extends Request {
         return false;
     }
     
-    private Champion() {
-        rateLimited = true;
+    private Champion(Builder url) {
+        super(true, url);
     }
     
-    private void build(boolean freeToPlay) {
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append('?');
-        if (freeToPlay) url.append("freeToPlay=true&");
-        end();
+    private static Builder build(LolClient client, boolean freeToPlay) {
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base);
+        if (freeToPlay) url.param("freeToPlay", true);
+        return url.end();
     }
     
-    private void build(int champId) {
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append('/')
-                .append(champId)
-                .append('?');
-        end();
+    private static Builder build(LolClient client, int champId) {
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path('/')
+                .path(champId)
+                .end();
     }
 
 }
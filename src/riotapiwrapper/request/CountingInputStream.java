@@ -0,0 +1,49 @@
+package riotapiwrapper.request;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+ * Counts the bytes read through it, used to tell how many bytes came over the
+ * wire and how many were left after decompressing them.
+ */
+class CountingInputStream extends FilterInputStream {
+    
+    private long count;
+    
+    CountingInputStream(InputStream in) {
+        super(in);
+    }
+    
+    long count() {
+        return count;
+    }
+    
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) ++count;
+        return b;
+    }
+    
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) count += read;
+        return read;
+    }
+    
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+    
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+    
+}
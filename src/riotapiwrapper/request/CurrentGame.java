@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the current-game-v1.0 end point for the League of Legends public
@@ -17,8 +18,8 @@ import riotapiwrapper.LolAPI;
  */
 public class CurrentGame extends Request {
 
-    private static final String base = ".api.pvp.net/observer-mode/"
-            + "rest/consumer/getSpectatorGameInfo/";
+    private static final String base = "observer-mode/rest/consumer/"
+            + "getSpectatorGameInfo/";
     
     /**
      * Creates an API request for the current game of the summoner specified
@@ -33,9 +34,24 @@ public class CurrentGame extends Request {
      * @throws  IllegalStateException if an API key has not been set.
      */
     public static CurrentGame get(int summonerId) {
-        CurrentGame game = new CurrentGame();
-        game.build(summonerId);
-        return game;
+        return get(LolAPI.client(), summonerId);
+    }
+    
+    /**
+     * Creates an API request for the current game of the summoner specified
+     * with summonerIdwhen sent.
+     * <p>
+     * When sent, if that summoner is not in a game, the API server will respond
+     * with a 404 error.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    ID of the summoner
+     * @return              API request for current game info of the summoner,
+     *                      including spectator data.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static CurrentGame get(LolClient client, int summonerId) {
+        return new CurrentGame(build(client, summonerId));
     }
     
     public RequestType type() {
@@ -46,19 +62,16 @@ public class CurrentGame extends Request {
         return false;
     }
     
-    private void build(int summonerId) {
-        url.append("https://")
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(LolAPI.getCurrentRegion().PLATFORM_ID)
-                .append('/')
-                .append(summonerId)
-                .append('?');
-        end();
+    private static Builder build(LolClient client, int summonerId) {
+        return new Builder(client).begin(base)
+                .path(client.region().PLATFORM_ID)
+                .path('/')
+                .path(summonerId)
+                .end();
     }
     
-    private CurrentGame() {
-        rateLimited = true;
+    private CurrentGame(Builder url) {
+        super(true, url);
     }
 
 }
@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the featured-games-v1.0 end point for the League of Legends public
@@ -17,8 +18,7 @@ import riotapiwrapper.LolAPI;
  */
 public class FeaturedGames extends Request {
 
-    private static final String base = ".api.pvp.net/observer-mode/rest/"
-            + "featured?";
+    private static final String base = "observer-mode/rest/featured";
     
     /**
      * Creates an API request for the current featured games for the current
@@ -28,9 +28,19 @@ public class FeaturedGames extends Request {
      * @throws  IllegalStateException if an API key has not been set.
      */
     public static FeaturedGames get() {
-        FeaturedGames games = new FeaturedGames();
-        games.build();
-        return games;
+        return get(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current featured games for the current
+     * region.
+     * 
+     * @param client The client the request is built with.
+     * @return  request URL for current featured games for the current region.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static FeaturedGames get(LolClient client) {
+        return new FeaturedGames(new Builder(client).begin(base).end());
     }
     
     public RequestType type() {
@@ -41,15 +51,8 @@ public class FeaturedGames extends Request {
         return false;
     }
     
-    private void build() {
-        url.append("https://")
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base);
-        end();
-    }
-    
-    private FeaturedGames() {
-        rateLimited = true;
+    private FeaturedGames(Builder url) {
+        super(true, url);
     }
 
 }
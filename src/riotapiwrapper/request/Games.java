@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the game-v1.3 end point for the League of Legends public
@@ -28,9 +29,20 @@ public class Games extends Request {
      * @throws  IllegalStateException if an API key has not been set.
      */
     public static Games recent(int summonerId) {
-        Games game = new Games();
-        game.build(summonerId);
-        return game;
+        return recent(LolAPI.client(), summonerId);
+    }
+    
+    /**
+     * Creates an API request for the specified summoner's last 10 games.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    Specified summoner's id.
+     * @return              API request for the specified summoner's last 10
+     *                      games.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static Games recent(LolClient client, int summonerId) {
+        return new Games(build(client, summonerId));
     }
     
     public RequestType type() {
@@ -41,17 +53,17 @@ public class Games extends Request {
         return false;
     }
     
-    private Games() {
-        rateLimited = true;
+    private Games(Builder url) {
+        super(true, url);
     }
     
-    private void build(int summonerId) {
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(summonerId)
-                .append("/recent?");
-        end();
+    private static Builder build(LolClient client, int summonerId) {
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path(summonerId)
+                .path("/recent")
+                .end();
     }
 
 }
@@ -57,11 +57,23 @@ public enum HTTPstatus {
      */
     INTERNAL_SERVER_ERROR(500, "There is an issue with the Riot API service."),
     
+    /**
+     * This error indicates that a server between you and the API server
+     * received an invalid response from it.
+     */
+    BAD_GATEWAY(502, "The Riot API service gave an invalid response."),
+    
     /**
      * This error indicates the server is currently unavailable to handle 
      * request because of an unknown reason.
      */
-    SERVICE_UNAVAILABLE(503, "The Riot API service is unavailible.");
+    SERVICE_UNAVAILABLE(503, "The Riot API service is unavailible."),
+    
+    /**
+     * This error indicates that a server between you and the API server did
+     * not receive a response from it in time.
+     */
+    GATEWAY_TIMEOUT(504, "The Riot API service did not respond in time.");
     
     /**
      * The three digit error code.
@@ -95,6 +107,11 @@ public enum HTTPstatus {
         return this.ERROR;
     }
     
+    /*
+     * Codes that are not listed are folded into the nearest listed status. A
+     * code of 0, used when no response was received at all, is treated as
+     * the service being unavailable.
+     */
     static HTTPstatus getStatus(int code) {
         HTTPstatus status;
         switch(code) {
@@ -119,11 +136,26 @@ public enum HTTPstatus {
             case 500:
                 status = INTERNAL_SERVER_ERROR;
                 break;
+            case 502:
+                status = BAD_GATEWAY;
+                break;
             case 503:
                 status = SERVICE_UNAVAILABLE;
                 break;
+            case 504:
+                status = GATEWAY_TIMEOUT;
+                break;
             default:
-                throw new IllegalArgumentException("unknown error code");
+                if (code >= 200 && code < 400) {
+                    status = SUCCESSFUL;
+                } else if (code >= 400 && code < 500) {
+                    status = BAD_REQUEST;
+                } else if (code >= 500 && code < 600) {
+                    status = INTERNAL_SERVER_ERROR;
+                } else {
+                    status = SERVICE_UNAVAILABLE;
+                }
+                break;
         }
         return status;
     }
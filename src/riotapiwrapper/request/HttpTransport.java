@@ -0,0 +1,264 @@
+package riotapiwrapper.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import riotapiwrapper.util.StreamingResponseHandler;
+
+/**
+ * The default {@code Transport}, built on {@code java.net.http.HttpClient}.
+ * <p>
+ * HTTP/2 is used when the server supports it, and connections and TLS
+ * sessions are kept alive and reused for every request to the same regional
+ * host. Connecting is bounded by the connect timeout, and receiving the whole
+ * response is bounded by the read timeout, so a hung socket cannot stall the
+ * thread sending the request forever.
+ * <p>
+ * Responses are requested with gzip or deflate compression and decompressed
+ * as they are read. Successful responses for a
+ * {@code StreamingResponseHandler} are handed to it as they are decompressed,
+ * without being held in memory. The bytes received for each
+ * {@code RequestType}, before and after decompression, are tallied in
+ * {@code stats()}.
+ * <p>
+ * Every {@code Response} carries the URL without the API key, the exact
+ * status code, the rate limit and Retry-After headers, and how long the
+ * exchange took. Errors from the server are read like any other response
+ * rather than surfaced as exceptions.
+ * 
+ * @see     Transport
+ */
+public class HttpTransport implements Transport {
+    
+    /*
+     * Closes response bodies that are still being read when their read
+     * timeout runs out, which fails the blocked read.
+     */
+    private static final ScheduledThreadPoolExecutor watchdog;
+    
+    /*
+     * The body of the response given to a streaming handler, which reads the
+     * real body from the stream instead.
+     */
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+    
+    /*
+     * The response headers kept in each Response.
+     */
+    private static final String[] keptHeaders = {
+        "Retry-After",
+        "X-Rate-Limit-Type",
+        "X-Rate-Limit-Count",
+        "X-App-Rate-Limit-Count",
+        "X-Method-Rate-Limit-Count",
+        "Content-Type",
+        "Content-Encoding",
+        "Date"
+    };
+    
+    static {
+        watchdog = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "transport watchdog thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.setRemoveOnCancelPolicy(true);
+    }
+    
+    private final HttpClient client;
+    private final Duration readTimeout;
+    private final TransferStats stats = new TransferStats();
+    
+    /**
+     * Creates an {@code HttpTransport} with a 5 second connect timeout and a
+     * 15 second read timeout.
+     */
+    public HttpTransport() {
+        this(Duration.ofSeconds(5), Duration.ofSeconds(15));
+    }
+    
+    /**
+     * Creates an {@code HttpTransport} with the given timeouts.
+     * 
+     * @param connectTimeout    The longest time to wait for a connection to
+     *                          the API server.
+     * @param readTimeout       The longest time to wait for the whole
+     *                          response once the request is sent.
+     * @throws  IllegalArgumentException if either timeout is not positive.
+     */
+    public HttpTransport(Duration connectTimeout, Duration readTimeout) {
+        if (readTimeout.isNegative() || readTimeout.isZero()) {
+            throw new IllegalArgumentException("the read timeout must be "
+                    + "positive");
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.readTimeout = readTimeout;
+    }
+    
+    @Override
+    public Response fetch(String url, RequestType type) {
+        return exchange(url, type, null);
+    }
+    
+    @Override
+    public Response fetch(String url, RequestType type,
+            StreamingResponseHandler handler) {
+        return exchange(url, type, handler);
+    }
+    
+    /**
+     * Returns the bytes received by this transport for each request type,
+     * before and after decompression.
+     * 
+     * @return  The transfer statistics for this transport.
+     */
+    public TransferStats stats() {
+        return stats;
+    }
+    
+    /*
+     * Sends the request and reads the response. If handler is not null, a
+     * successful response is streamed to it and null is returned, unless
+     * streaming it failed.
+     */
+    private Response exchange(String url, RequestType type,
+            StreamingResponseHandler handler) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(readTimeout)
+                    .header("Accept-Encoding", "gzip, deflate")
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return new Response(url, e.getMessage(), HTTPstatus.BAD_REQUEST,
+                    type);
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(request,
+                    HttpResponse.BodyHandlers.ofInputStream());
+            long firstByte = System.nanoTime() - start;
+            long remaining = readTimeout.toNanos() - firstByte;
+            InputStream is = response.body();
+            ScheduledFuture<?> deadline = watchdog.schedule(() -> close(is),
+                    remaining, TimeUnit.NANOSECONDS);
+            try {
+                CountingInputStream wire = new CountingInputStream(is);
+                InputStream body = decompress(response, wire);
+                CountingInputStream decoded = new CountingInputStream(body);
+                if (handler != null && response.statusCode()
+                        == HTTPstatus.SUCCESSFUL.CODE) {
+                    Response failure = stream(handler, new Response(url,
+                            EMPTY, response.statusCode(),
+                            keptHeaders(response), firstByte, 0, type),
+                            decoded, start);
+                    stats.record(type, wire.count(), decoded.count());
+                    return failure;
+                }
+                long length = -1;
+                if (body == wire) {
+                    length = response.headers()
+                            .firstValueAsLong("Content-Length").orElse(-1);
+                }
+                ByteBuffer data = BodyReader.readAll(decoded, length);
+                stats.record(type, wire.count(), decoded.count());
+                return new Response(url, data, response.statusCode(),
+                        keptHeaders(response), firstByte, 
+                        System.nanoTime() - start, type);
+            } finally {
+                deadline.cancel(false);
+                close(is);
+            }
+        } catch (IOException e) {
+            return failed(url, e.toString(), start, type);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(url, "interrupted while waiting for the response",
+                    start, type);
+        }
+    }
+    
+    /*
+     * Returns null once the handler has read the body, or a failed response
+     * if reading or handling it failed, which is then given to the handler as
+     * well so it knows the body it was streamed is incomplete.
+     */
+    private static Response stream(StreamingResponseHandler handler,
+            Response head, InputStream body, long start) {
+        try {
+            handler.operate(head, body);
+            return null;
+        } catch (IOException e) {
+            return failed(head.url, e.toString(), start, head.requestType);
+        }
+    }
+    
+    /*
+     * Wraps the body in a streaming decompressor matching its Content-Encoding.
+     * The Content-Length of a compressed body is not the size of the data, so
+     * it is only used for bodies sent as is.
+     */
+    private static InputStream decompress(HttpResponse<?> response,
+            InputStream body) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding")
+                .orElse("identity").trim().toLowerCase(Locale.ROOT);
+        switch (encoding) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body, 8192);
+            case "deflate":
+                return new InflaterInputStream(body);
+            default:
+                return body;
+        }
+    }
+    
+    /*
+     * A response that was never fully received has no status code.
+     */
+    private static Response failed(String url, String message, long start,
+            RequestType type) {
+        return new Response(url, message, 0, 
+                Collections.<String, String>emptyMap(), 0, 
+                System.nanoTime() - start, type);
+    }
+    
+    private static Map<String, String> keptHeaders(HttpResponse<?> response) {
+        Map<String, String> kept = new HashMap<String, String>();
+        for (String name : keptHeaders) {
+            Optional<String> value = response.headers().firstValue(name);
+            if (value.isPresent()) kept.put(name, value.get());
+        }
+        return kept;
+    }
+    
+    private static void close(InputStream is) {
+        try {
+            is.close();
+        } catch (IOException e) {
+            
+        }
+    }
+    
+}
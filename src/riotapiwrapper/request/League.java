@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 import riotapiwrapper.QueueTypes;
 
 /**
@@ -34,9 +35,27 @@ public class League extends Request {
      *                                      challenger league.
      */
     public static League challenger(QueueTypes queue) {
-        League league = new League();
-        league.buildChallenger(queue);
-        return league;
+        return challenger(LolAPI.client(), queue);
+    }
+    
+    /**
+     * Creates an API request for the challenger league for a specific ranked
+     * queue.
+     * 
+     * @param   client                      The client the request is
+     *                                      built with.
+     * @param   queue                       The ranked queue for the challenger
+     *                                      league requested. Valid Strings: 
+     *                                      RANKED_SOLO_5x5, RANKED_TEAM_5x5,
+     *                                      and RANKED_TEAM_3x3.
+     * @throws  IllegalArgumentException    If the queue does not have a 
+     *                                      challenger tier.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @return                              API Request for the requested
+     *                                      challenger league.
+     */
+    public static League challenger(LolClient client, QueueTypes queue) {
+        return new League(buildChallenger(client, queue));
     }
     
     /**
@@ -53,9 +72,25 @@ public class League extends Request {
      *                                  leagues.
      */
     public static League bySummoner(int... id) {
-        League league = new League();
-        league.buildSummoner(true, id);
-        return league;
+        return bySummoner(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for the leagues for a list of summoners, specified
+     * by their SummonerIds. No more than 10 summoners can be requested at a
+     * time.
+     *   
+     * @param client                    The client the request is built with.
+     * @param id                        List of summoner IDs for this request.
+     *                                  Max amount is 10.
+     * @throws IllegalArgumentException If the number of summoner IDs is
+     *                                  greater than 10.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @return                          API Request for the requested summoners'
+     *                                  leagues.
+     */
+    public static League bySummoner(LolClient client, int... id) {
+        return new League(buildSummoner(client, true, id));
     }
     
     /**
@@ -72,9 +107,25 @@ public class League extends Request {
      *                                  leagues and their entries.
      */
     public static League entriesBySummoner(int... id) {
-        League league = new League();
-        league.buildSummoner(false, id);
-        return league;
+        return entriesBySummoner(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for the leagues and their entries for a list of 
+     * summoners, specified by their SummonerIds. No more than 10 summoners can
+     * be requested at a time.
+     *   
+     * @param client                    The client the request is built with.
+     * @param id                        List of summoner IDs for this request.
+     *                                  Max amount is 10.
+     * @throws IllegalArgumentException If the number of summoner IDs is
+     *                                  greater than 10.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @return                          API Request for the requested summoners'
+     *                                  leagues and their entries.
+     */
+    public static League entriesBySummoner(LolClient client, int... id) {
+        return new League(buildSummoner(client, false, id));
     }
     
     /**
@@ -91,9 +142,25 @@ public class League extends Request {
      *                                  leagues.
      */
     public static League byTeam(String... id) {
-        League league = new League();
-        league.buildTeam(false, id);
-        return league;
+        return byTeam(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for the leaguesfor a list of summoners, specified
+     * by their SummonerIds. No more than 10 summoners can be requested at a
+     * time.
+     *   
+     * @param client                    The client the request is built with.
+     * @param id                        List of team IDs for this request. Max
+     *                                  amount is 10.
+     * @throws IllegalArgumentException If the number of team IDs is greater
+     *                                  than 10.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @return                          API Request for the requested teams'
+     *                                  leagues.
+     */
+    public static League byTeam(LolClient client, String... id) {
+        return new League(buildTeam(client, false, id));
     }
     
     /**
@@ -110,9 +177,25 @@ public class League extends Request {
      *                                  leagues and their entries.
      */
     public static League entriesByTeam(String... id) {
-        League league = new League();
-        league.buildTeam(true, id);
-        return league;
+        return entriesByTeam(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for the leagues and their entries for a list of 
+     * summoners, specified by their SummonerIds. No more than 10 summoners can
+     * be requested at a time.
+     *   
+     * @param client                    The client the request is built with.
+     * @param id                        List of team IDs for this request. Max
+     *                                  amount is 10.
+     * @throws IllegalArgumentException If the number of team IDs is greater
+     *                                  than 10.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @return                          API Request for the requested teams'
+     *                                  leagues and their entries.
+     */
+    public static League entriesByTeam(LolClient client, String... id) {
+        return new League(buildTeam(client, true, id));
     }
     
     public RequestType type() {
@@ -123,61 +206,49 @@ public class League extends Request {
         return false;
     }
     
-    private League() {
-        rateLimited = true;
+    private League(Builder url) {
+        super(true, url);
     }
     
-    private void buildSummoner(boolean entry, int... id) {
+    private static Builder buildSummoner(LolClient client, boolean entry,
+            int... id) {
         if (id.length > 10) {
             throw new IllegalArgumentException("maximum of 10 entries allowed");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append("by-summoner/")
-                .append(id[0]);
-        if (id.length > 1) {
-            for (int i = 1; i < id.length; i++) {
-                url.append(",")
-                        .append(id[i]);
-            }
-        }
-        if (entry) url.append("/entry?");
-        else url.append('?');
-        end();
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path("by-summoner/")
+                .pathList(id);
+        if (entry) url.path("/entry");
+        return url.end();
     }
     
-    private void buildTeam(boolean entry, String... id) {
+    private static Builder buildTeam(LolClient client, boolean entry,
+            String... id) {
         if (id.length > 10) {
             throw new IllegalArgumentException("maximum of 10 entries allowed");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append("by-team/")
-                .append(id[0]);
-        if (id.length > 1) {
-            for (int i = 1; i < id.length; i++) {
-                url.append(",")
-                        .append(id[i]);
-            }
-        }
-        if (entry) url.append("/entry?");
-        else url.append('?');
-        end();
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path("by-team/")
+                .pathList((Object[]) id);
+        if (entry) url.path("/entry");
+        return url.end();
     }
     
-    private void buildChallenger(QueueTypes queue) {
+    private static Builder buildChallenger(LolClient client,
+            QueueTypes queue) {
         if (!queue.hasChallengerTier()) {
             throw new IllegalArgumentException("Invalid queue type");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append("challenger?type=")
-                .append(queue)
-                .append('&');
-        end();
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path("challenger")
+                .param("type", queue)
+                .end();
     }
 
 }
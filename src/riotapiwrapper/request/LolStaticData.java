@@ -2,6 +2,7 @@ package riotapiwrapper.request;
 
 import riotapiwrapper.Locales;
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the lol-static-data-v1.2 end point for the League of Legends 
@@ -23,10 +24,7 @@ public class LolStaticData extends Request {
     private final static String base1 = "static-data/";
     private final static String base2 = "/v1.2/";
     
-    private static Locales locale;
-    private static String version;
-    
-    private Subtype subtype;
+    private final Subtype subtype;
     
     /**
      * Creates an API request for the full list of current champions' data 
@@ -44,10 +42,29 @@ public class LolStaticData extends Request {
      * @return  An API request for all champions' data and in game statistics.
      */
     public static LolStaticData champions(boolean byId, String... champData) {
+        return champions(LolAPI.client(), byId, champData);
+    }
+    
+    /**
+     * Creates an API request for the full list of current champions' data 
+     * based on the currently selected version and the default region. 
+     * <p>
+     * Additional data beyond the default should be specified in the champData
+     * parameter. Having "all" in the champData parameter retrieves all 
+     * additional champion data. If no additional data is requested in 
+     * champData, the minimum data will be retrieved from the API server.
+     * 
+     * @param   client      The client the request is built with.
+     * @param   byId        Flag indicating weather the champions should be 
+     *                      ordered by their championId's.
+     * @param   champData   List of additional data to be requested from the 
+     *                      API server.
+     * @return  An API request for all champions' data and in game statistics.
+     */
+    public static LolStaticData champions(LolClient client, boolean byId,
+            String... champData) {
         Subtype type = Subtype.CHAMPION;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, byId, champData);
-        return data;
+        return new LolStaticData(type, build(client, type, byId, champData));
     }
     
     /**
@@ -65,10 +82,28 @@ public class LolStaticData extends Request {
      * @return  An API request for all champions' data and in game statistics.
      */
     public static LolStaticData champion(int id, String... champData) {
+        return champion(LolAPI.client(), id, champData);
+    }
+    
+    /**
+     * Creates an API request for a specific champion's data, requested by the
+     * champion's id based on the current version and the default region. 
+     * Additional data beyond the default should be specified in 
+     * the champData parameter. Having "all" in the champData parameter 
+     * retrieves all additional champion data. If no additional data is 
+     * requested in champData, the minimum data will be retrieved from the API 
+     * server.
+     * 
+     * @param   client      The client the request is built with.
+     * @param   id          The id of the champion requested.
+     * @param   champData   List of additional data to be requested from the 
+     *                      API server.
+     * @return  An API request for all champions' data and in game statistics.
+     */
+    public static LolStaticData champion(LolClient client, int id,
+            String... champData) {
         Subtype type = Subtype.CHAMPION;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, id, champData);
-        return data;
+        return new LolStaticData(type, build(client, type, id, champData));
     }
     
     /**
@@ -84,10 +119,25 @@ public class LolStaticData extends Request {
      * @return  an API request for all items' data and in game statistics.
      */
     public static LolStaticData items(String... itemData) {
+        return items(LolAPI.client(), itemData);
+    }
+    
+    /**
+     * Creates an API request for all items' data based on the current region's
+     * version and its default locale. Additional data beyond the default should
+     * be specified in the itemData parameter. Having "all" in the itemData 
+     * parameter retrieves all additional item data. If no additional data is
+     * requested in itemData, the minimum data will be retrieved from the API
+     * server.
+     * 
+     * @param   client      The client the request is built with.
+     * @param   itemData    List of additional data to be requested from the
+     *                      API server.
+     * @return  an API request for all items' data and in game statistics.
+     */
+    public static LolStaticData items(LolClient client, String... itemData) {
         Subtype type = Subtype.ITEM;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, false, itemData);
-        return data;
+        return new LolStaticData(type, build(client, type, false, itemData));
     }
     
     /**
@@ -105,10 +155,28 @@ public class LolStaticData extends Request {
      *          statistics.
      */
     public static LolStaticData item(int id, String... itemData) {
+        return item(LolAPI.client(), id, itemData);
+    }
+    
+    /**
+     * Creates an API request for a specific item's data based on the current
+     * region's version and its default locale. Additional data beyond the
+     * default should be specified in the itemData parameter. Having "all" in 
+     * the itemData parameter retrieves all additional item data. If no 
+     * additional data is request in itemData, the minimum data will be 
+     * retrieved from the API server.
+     * 
+     * @param client    The client the request is built with.
+     * @param id        id of the item requested
+     * @param itemData  List of additional data to be requested from the API
+     *                  server.
+     * @return  An API request for a specific item's data and in game 
+     *          statistics.
+     */
+    public static LolStaticData item(LolClient client, int id,
+            String... itemData) {
         Subtype type = Subtype.ITEM;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, id, itemData);
-        return data;
+        return new LolStaticData(type, build(client, type, id, itemData));
     }
     
     /**
@@ -119,10 +187,20 @@ public class LolStaticData extends Request {
      *          default locale.
      */
     public static LolStaticData languageStrings() {
+        return languageStrings(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the language strings for the current region's 
+     * default locale.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for the language strings for the current region's
+     *          default locale.
+     */
+    public static LolStaticData languageStrings(LolClient client) {
         Subtype type = Subtype.LANGUAGE_STRINGS;
-        LolStaticData data = new LolStaticData(type);
-        data.bareBuild(type);
-        return data;
+        return new LolStaticData(type, bareBuild(client, type));
     }
     
     /**
@@ -131,10 +209,18 @@ public class LolStaticData extends Request {
      * @return  An API request for all languages the API supports.
      */
     public static LolStaticData languages() {
+        return languages(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for all languages the API supports.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for all languages the API supports.
+     */
+    public static LolStaticData languages(LolClient client) {
         Subtype type = Subtype.LANGUAGES;
-        LolStaticData data = new LolStaticData(type);
-        data.bareBuild(type);
-        return data;
+        return new LolStaticData(type, bareBuild(client, type));
     }
     
     /**
@@ -145,10 +231,20 @@ public class LolStaticData extends Request {
      *          maps.
      */
     public static LolStaticData map() {
+        return map(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current region's data for all in-game 
+     * maps.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for the current region's data for all in-game 
+     *          maps.
+     */
+    public static LolStaticData map(LolClient client) {
         Subtype type = Subtype.MAP;
-        LolStaticData data = new LolStaticData(type);
-        data.bareBuild(type);
-        return data;
+        return new LolStaticData(type, bareBuild(client, type));
     }
     
     /**
@@ -158,10 +254,19 @@ public class LolStaticData extends Request {
      * @return  A request for the current region's and version's masteries.
      */
     public static LolStaticData masteries() {
+        return masteries(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current region's and current version's 
+     * masteries.
+     * 
+     * @param client The client the request is built with.
+     * @return  A request for the current region's and version's masteries.
+     */
+    public static LolStaticData masteries(LolClient client) {
         Subtype type = Subtype.MASTERY;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type);
-        return data;
+        return new LolStaticData(type, build(client, type));
     }
     
     /**
@@ -172,10 +277,20 @@ public class LolStaticData extends Request {
      * @return      A request for a specific mastery.
      */
     public static LolStaticData mastery(int id) {
+        return mastery(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for a specified matery's data for the current
+     * region and version.
+     * 
+     * @param client The client the request is built with.
+     * @param id    id of the requested mastery.
+     * @return      A request for a specific mastery.
+     */
+    public static LolStaticData mastery(LolClient client, int id) {
         Subtype type = Subtype.MASTERY;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, id);
-        return data;
+        return new LolStaticData(type, build(client, type, id));
     }
     
     /**
@@ -184,10 +299,18 @@ public class LolStaticData extends Request {
      * @return  An API request for the current region's realm data.
      */
     public static LolStaticData realm() {
+        return realm(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current region's realm data.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for the current region's realm data.
+     */
+    public static LolStaticData realm(LolClient client) {
         Subtype type = Subtype.REALM;
-        LolStaticData data = new LolStaticData(type);
-        data.bareBuild(type);
-        return data;
+        return new LolStaticData(type, bareBuild(client, type));
     }
     
     /**
@@ -197,10 +320,19 @@ public class LolStaticData extends Request {
      * @return  A request for the current region's and version's runes.
      */
     public static LolStaticData runes() {
+        return runes(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current region's and current version's 
+     * runes.
+     * 
+     * @param client The client the request is built with.
+     * @return  A request for the current region's and version's runes.
+     */
+    public static LolStaticData runes(LolClient client) {
         Subtype type = Subtype.RUNE;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type);
-        return data;
+        return new LolStaticData(type, build(client, type));
     }
     
     /**
@@ -211,10 +343,20 @@ public class LolStaticData extends Request {
      * @return      A request for a specific rune.
      */
     public static LolStaticData rune(int id) {
+        return rune(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for a specified rune's data for the current
+     * region and version.
+     * 
+     * @param client The client the request is built with.
+     * @param id    id of the requested rune.
+     * @return      A request for a specific rune.
+     */
+    public static LolStaticData rune(LolClient client, int id) {
         Subtype type = Subtype.RUNE;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, id);
-        return data;
+        return new LolStaticData(type, build(client, type, id));
     }
     
     /**
@@ -224,10 +366,19 @@ public class LolStaticData extends Request {
      * @return  A request for the current region's and version's summoner spells.
      */
     public static LolStaticData summonerSpells() {
+        return summonerSpells(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for the current region's and current version's 
+     * summoner spells.
+     * 
+     * @param client The client the request is built with.
+     * @return  A request for the current region's and version's summoner spells.
+     */
+    public static LolStaticData summonerSpells(LolClient client) {
         Subtype type = Subtype.SUMMONER_SPELL;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type);
-        return data;
+        return new LolStaticData(type, build(client, type));
     }
     
     /**
@@ -238,10 +389,20 @@ public class LolStaticData extends Request {
      * @return      A request for a specific summoner spell.
      */
     public static LolStaticData summonerSpell(int id) {
+        return summonerSpell(LolAPI.client(), id);
+    }
+    
+    /**
+     * Creates an API request for a specified summoner spell's data for the 
+     * current region and version.
+     * 
+     * @param client The client the request is built with.
+     * @param id    id of the requested summoner spell.
+     * @return      A request for a specific summoner spell.
+     */
+    public static LolStaticData summonerSpell(LolClient client, int id) {
         Subtype type = Subtype.SUMMONER_SPELL;
-        LolStaticData data = new LolStaticData(type);
-        data.build(type, id);
-        return data;
+        return new LolStaticData(type, build(client, type, id));
     }
     
     /**
@@ -250,10 +411,18 @@ public class LolStaticData extends Request {
      * @return  An API request for all versions for the current region.
      */
     public static LolStaticData versions() {
+        return versions(LolAPI.client());
+    }
+    
+    /**
+     * Creates an API request for all versions for the current region.
+     * 
+     * @param client The client the request is built with.
+     * @return  An API request for all versions for the current region.
+     */
+    public static LolStaticData versions(LolClient client) {
         Subtype type = Subtype.VERSIONS;
-        LolStaticData data = new LolStaticData(type);
-        data.bareBuild(type);
-        return data;
+        return new LolStaticData(type, bareBuild(client, type));
     }
     
     /**
@@ -263,9 +432,10 @@ public class LolStaticData extends Request {
      *                  future requests will be made with the current region's
      *                  default locale.
      * @see     Locales
+     * @see     LolClient#withLocale(Locales)
      */
     public static void setLocale(Locales locale) {
-        LolStaticData.locale = locale;
+        LolAPI.setClient(LolAPI.client().withLocale(locale));
     }
     
     /**
@@ -274,10 +444,11 @@ public class LolStaticData extends Request {
      * @param version   Version for future requests. If null, future requests
      *                  will be made with the most recent version for the 
      *                  current region.
+     * @see     LolClient#withVersion(String)
      */
     public static void setVersion(String version) {
         //verify version is valid here.
-        LolStaticData.version = version;
+        LolAPI.setClient(LolAPI.client().withVersion(version));
     }
     
     public RequestType type() {
@@ -297,117 +468,97 @@ public class LolStaticData extends Request {
         return true;
     }
     
-    private void build(Subtype type, int id, String... data) {
-        begin();
-        url.append(base1)
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base2)
-                .append(type)
-                .append('/')
-                .append(id)
-                .append('?');
-        evaluateLocale();
-        evaluateVersion();
-        if (type == Subtype.ITEM) evaluateItemData(data);
-        if (type == Subtype.CHAMPION) evaluateChampData(data);
-        end();
-    }
-    
-    private void build(Subtype type) {
-        begin();
-        url.append(base1)
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base2)
-                .append(type)
-                .append('?');
-        evaluateLocale();
-        evaluateVersion();
-        end();
-    }
-    
-    private void build(Subtype type, int id) {
-        begin();
-        url.append(base1)
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base2)
-                .append(type)
-                .append('/')
-                .append(id)
-                .append('?');
-        evaluateLocale();
-        evaluateVersion();
-        end();
-    }
-    
-    private void build(Subtype type, boolean byId,
+    private static Builder build(LolClient client, Subtype type, int id,
             String... data) {
-        begin();
-        url.append(base1)
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base2)
-                .append(type)
-                .append('?');
-        evaluateLocale();
-        evaluateVersion();
+        Builder url = new Builder(client).begin()
+                .path(base1)
+                .path(client.region().ABREV)
+                .path(base2)
+                .path(type)
+                .path('/')
+                .path(id);
+        evaluateLocale(client, url);
+        evaluateVersion(client, url);
+        if (type == Subtype.ITEM) evaluateItemData(url, data);
+        if (type == Subtype.CHAMPION) evaluateChampData(url, data);
+        return url.end();
+    }
+    
+    private static Builder build(LolClient client, Subtype type) {
+        Builder url = new Builder(client).begin()
+                .path(base1)
+                .path(client.region().ABREV)
+                .path(base2)
+                .path(type);
+        evaluateLocale(client, url);
+        evaluateVersion(client, url);
+        return url.end();
+    }
+    
+    private static Builder build(LolClient client, Subtype type, int id) {
+        Builder url = new Builder(client).begin()
+                .path(base1)
+                .path(client.region().ABREV)
+                .path(base2)
+                .path(type)
+                .path('/')
+                .path(id);
+        evaluateLocale(client, url);
+        evaluateVersion(client, url);
+        return url.end();
+    }
+    
+    private static Builder build(LolClient client, Subtype type,
+            boolean byId, String... data) {
+        Builder url = new Builder(client).begin()
+                .path(base1)
+                .path(client.region().ABREV)
+                .path(base2)
+                .path(type);
+        evaluateLocale(client, url);
+        evaluateVersion(client, url);
         if (byId) {
-            url.append("dataById=true&");
+            url.param("dataById", true);
         }
-        if (type == Subtype.ITEM) evaluateItemData(data);
-        if (type == Subtype.CHAMPION) evaluateChampData(data);
-        end();
+        if (type == Subtype.ITEM) evaluateItemData(url, data);
+        if (type == Subtype.CHAMPION) evaluateChampData(url, data);
+        return url.end();
     }
     
     /*
      * Used for requests that do not base their response on versions or locale.
      */
-    private void bareBuild(Subtype type) {
-        begin();
-        url.append(base1)
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(base2)
-                .append(type)
-                .append('?');
-        end();
+    private static Builder bareBuild(LolClient client, Subtype type) {
+        return new Builder(client).begin()
+                .path(base1)
+                .path(client.region().ABREV)
+                .path(base2)
+                .path(type)
+                .end();
     }
     
-    private void evaluateLocale() {
+    private static void evaluateLocale(LolClient client, Builder url) {
+        Locales locale = client.locale();
         if (locale == null) return;
-        url.append("locale=")
-                .append(locale.toString())
-                .append('&');
+        url.param("locale", locale);
     }
     
-    private void evaluateVersion() {
-        if (version == null || version == "") return;
-        url.append("version=")
-                .append(version)
-                .append('&');
+    private static void evaluateVersion(LolClient client, Builder url) {
+        String version = client.version();
+        if (version == null) return;
+        url.param("version", version);
     }
     
-    private void evaluateChampData(String... data) {
-        if (data.length == 0) return;
-        url.append("champData=")
-                .append(data[0]);
-        for (int i = 1; i < data.length; i++) {
-            url.append(',')
-                    .append(data[i]);
-        }
-        url.append('&');
+    private static void evaluateChampData(Builder url, String... data) {
+        url.paramList("champData", (Object[]) data);
     }
     
-    private void evaluateItemData(String... data) {
-        if (data.length == 0) return;
-        url.append("itemData=")
-                .append(data[0]);
-        for (int i = 1; i < data.length; i++) {
-            url.append(',')
-                    .append(data[i]);
-        }
-        url.append('&');
+    private static void evaluateItemData(Builder url, String... data) {
+        url.paramList("itemData", (Object[]) data);
     }
     
-    private LolStaticData(Subtype subtype) {
-        rateLimited = false;
+    private LolStaticData(Subtype subtype, Builder url) {
+        super(false, url);
         this.subtype = subtype;
     }
     
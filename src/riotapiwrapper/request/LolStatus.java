@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 import riotapiwrapper.Regions;
 
 /**
@@ -27,7 +28,17 @@ public class LolStatus extends Request {
      * @return  A request for the server status of all servers.
      */
     public static LolStatus allServers() {
-        return new LolStatus();
+        return allServers(LolAPI.client());
+    }
+    
+    /**
+     * Creates a request for the server status of all servers.
+     * 
+     * @param client The client the request is built with.
+     * @return  A request for the server status of all servers.
+     */
+    public static LolStatus allServers(LolClient client) {
+        return new LolStatus(client);
     }
     
     /**
@@ -36,7 +47,17 @@ public class LolStatus extends Request {
      * @return  A request for the server status of the current region.
      */
     public static LolStatus currentRegion() {
-        return new LolStatus(LolAPI.getCurrentRegion());
+        return currentRegion(LolAPI.client());
+    }
+    
+    /**
+     * Creates a request for the server status of the client's region.
+     * 
+     * @param client The client the request is built with.
+     * @return  A request for the server status of the client's region.
+     */
+    public static LolStatus currentRegion(LolClient client) {
+        return new LolStatus(client, client.region());
     }
     
     /**
@@ -48,7 +69,20 @@ public class LolStatus extends Request {
      * @return          A request for the server status of the specified region.
      */
     public static LolStatus Region(Regions region) {
-        return new LolStatus(region);
+        return Region(LolAPI.client(), region);
+    }
+    
+    /**
+     * Creates a request for the server status of a specified region. Not all
+     * regions can be requested. If the request region cannot be requested, a 
+     * {@code HTTPstatus.FORBIDDEN} response will be retrieved.
+     * 
+     * @param client    The client the request is built with.
+     * @param region    The specified region's server status to request
+     * @return          A request for the server status of the specified region.
+     */
+    public static LolStatus Region(LolClient client, Regions region) {
+        return new LolStatus(client, region);
     }
     
     public RequestType type() {
@@ -59,16 +93,15 @@ public class LolStatus extends Request {
         return false;
     }
 
-    private LolStatus() {
-        rateLimited = false;
-        url.append(base);
+    private LolStatus(LolClient client) {
+        super(false, new Builder(client).path(base));
     }
     
-    private LolStatus(Regions r) {
-        rateLimited = false;
-        url.append(base)
-                .append("/")
-                .append(r.ABREV);
+    private LolStatus(LolClient client, Regions r) {
+        super(false, new Builder(client)
+                .path(base)
+                .path("/")
+                .path(r.ABREV));
     }
 
 }
@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the match-v2.2 end point for the League of Legends public API.
@@ -18,6 +19,9 @@ public class Match extends Request {
 
     private static final String base = "/v2.2/match/";
     
+    private final int id;
+    private final boolean includeTimeline;
+    
     /**
      * Creates a request for a specified match's data. The match timeline may be 
      * included by request.
@@ -28,9 +32,22 @@ public class Match extends Request {
      * @return                  A request for a specified match's data.
      */
     public static Match match(int id, boolean includeTimeline) {
-        Match match = new Match();
-        match.build(id, includeTimeline);
-        return match;
+        return match(LolAPI.client(), id, includeTimeline);
+    }
+    
+    /**
+     * Creates a request for a specified match's data. The match timeline may be 
+     * included by request.
+     * 
+     * @param client            The client the request is built with.
+     * @param id                The id of the match requested
+     * @param includeTimeline   A flag indicating if the match's timeline is
+     *                          requested.
+     * @return                  A request for a specified match's data.
+     */
+    public static Match match(LolClient client, int id,
+            boolean includeTimeline) {
+        return new Match(client, id, includeTimeline);
     }
     
     public RequestType type() {
@@ -41,20 +58,40 @@ public class Match extends Request {
         return false;
     }
     
-    private void build(int id, boolean includeTimeline) {
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(id)
-                .append('?');
+    /**
+     * Returns the id of the match requested.
+     * 
+     * @return  The id of the match requested.
+     */
+    public int id() {
+        return id;
+    }
+    
+    /**
+     * Returns a flag indicating if the match's timeline is requested.
+     * 
+     * @return  A flag indicating if the match's timeline is requested.
+     */
+    public boolean includesTimeline() {
+        return includeTimeline;
+    }
+    
+    private static Builder build(LolClient client, int id,
+            boolean includeTimeline) {
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path(id);
         if (includeTimeline) {
-            url.append("includeTimeline=true&");
+            url.param("includeTimeline", true);
         }
-        end();
+        return url.end();
     }
     
-    private Match() {
-        rateLimited = true;
+    private Match(LolClient client, int id, boolean includeTimeline) {
+        super(true, build(client, id, includeTimeline));
+        this.id = id;
+        this.includeTimeline = includeTimeline;
     }
 
 }
@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 import riotapiwrapper.QueueTypes;
 
 /**
@@ -22,7 +23,6 @@ import riotapiwrapper.QueueTypes;
 public class MatchHistory extends Request {
 
     private static final String base = "/v2.2/matchhistory/";
-    private static QueueTypes[] rankedQueues;
     
     /**
      * Creates an API request for the 15 most recent matches for a specified
@@ -37,11 +37,27 @@ public class MatchHistory extends Request {
      *                      the specified summoner's match history.
      * @throws  IllegalStateException if an API key has not been set.
      */
-    public static MatchHistory mostRecent(int summonerId,
+    public static MatchHistory mostRecent(int summonerId, int... championIds) {
+        return mostRecent(LolAPI.client(), summonerId, championIds);
+    }
+    
+    /**
+     * Creates an API request for the 15 most recent matches for a specified
+     * summoner. If ranked queues are specified, matches not from those queues
+     * will not be received.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    ID of the summoner whose match history is being 
+     *                      requested.
+     * @param championIds   A list of champion ids to return the summoner's 
+     *                      match history from.
+     * @return              API request for the 15 most recent matches in 
+     *                      the specified summoner's match history.
+     * @throws  IllegalStateException if an API key has not been set.
+     */
+    public static MatchHistory mostRecent(LolClient client, int summonerId,
             int... championIds) {
-        MatchHistory history = new MatchHistory();
-        history.build(summonerId, 0, 0, championIds);
-        return history;
+        return new MatchHistory(build(client, summonerId, 0, 0, championIds));
     }
     
     /**
@@ -66,11 +82,39 @@ public class MatchHistory extends Request {
      * @throws  IllegalArgumentException if either beginIndex or endIndex are
      *          below 0.
      */
-    public static MatchHistory mostRecentIndexed(int summonerId,
-            int beginIndex, int endIndex, int... championIds) {
-        MatchHistory history = new MatchHistory();
-        history.build(summonerId, beginIndex, endIndex, championIds);
-        return history;
+    public static MatchHistory mostRecentIndexed(int summonerId, int beginIndex,
+            int endIndex, int... championIds) {
+        return mostRecentIndexed(LolAPI.client(), summonerId, beginIndex,
+            endIndex, championIds);
+    }
+    
+    /**
+     * Creates an API request for a specific subset of the specified summoner's 
+     * match history. If ranked queues are specified, matches not from those 
+     * queues will not be received.
+     * <p>
+     * The subset is chosen with the beginIndex and endIndex parameters, with
+     * a maximum amount of 15. If the difference between beginIndex and 
+     * endIndex is greater than 15, the 15 starting from beginIndex will be
+     * requested from the API server.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    The summoner's whose match history is being 
+     *                      requested.
+     * @param beginIndex    The index of the most recent game requested.
+     * @param endIndex      The index of the oldest game requested.
+     * @param championIds   A list of champion ids to return the summoner's 
+     *                      match history from.
+     * @return              An API request for a subset of a summoner's match 
+     *                      history.
+     * @throws  IllegalStateException if an API key has not been set.
+     * @throws  IllegalArgumentException if either beginIndex or endIndex are
+     *          below 0.
+     */
+    public static MatchHistory mostRecentIndexed(LolClient client,
+            int summonerId, int beginIndex, int endIndex, int... championIds) {
+        return new MatchHistory(build(client, summonerId, beginIndex,
+                endIndex, championIds));
     }
     
     /**
@@ -82,19 +126,12 @@ public class MatchHistory extends Request {
      * QueueTypes.RANKED_TEAM_3x3
      * 
      * @param queues    The list of ranked queues to request match history from.
+     * @throws  IllegalArgumentException if a queue is not ranked or more than
+     *          3 are given.
+     * @see     LolClient#withRankedQueues(QueueTypes...)
      */
     public static void setRankedQueues(QueueTypes... queues) {
-        if (queues.length > 3) {
-            throw new IllegalArgumentException("There are only 3 availible "
-                    + "ranked queues");
-        }
-        for (QueueTypes queue : queues) {
-            if (!queue.isRanked()) {
-                throw new IllegalArgumentException("You may only select ranked "
-                        + "queues.");
-            }
-        }
-        rankedQueues = queues;
+        LolAPI.setClient(LolAPI.client().withRankedQueues(queues));
     }
     
     public RequestType type() {
@@ -105,53 +142,33 @@ public class MatchHistory extends Request {
         return false;
     }
     
-    private void evaluateRankedQueues() {
+    private static void evaluateRankedQueues(LolClient client, Builder url) {
+        QueueTypes[] rankedQueues = client.rankedQueues();
         if (rankedQueues == null) return;
-        url.append("rankedQueues=");
-        url.append(rankedQueues[0]);
-        for (int i = 1; i < rankedQueues.length; i++) {
-            url.append(',');
-            url.append(rankedQueues[i]);
-        }
-        url.append('&');
+        url.paramList("rankedQueues", (Object[]) rankedQueues);
     }
     
-    private void build(int summonerId, int beginIndex, int endIndex,
-            int... championIds) {
+    private static Builder build(LolClient client, int summonerId,
+            int beginIndex, int endIndex, int... championIds) {
         if (beginIndex < 0 || endIndex < 0) {
             throw new IllegalArgumentException("beginIndex and endIndex cannot "
                     + " be below 0.");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(summonerId)
-                .append('?');
-        if (championIds != null) {
-            url.append("championIds=")
-                    .append(championIds[0]);
-            if (championIds.length > 1) {
-                for (int i = 1; i < championIds.length; i++) {
-                    url.append(',')
-                            .append(championIds[i]);
-                }
-            }
-            url.append('&');
-        }
-        evaluateRankedQueues();
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path(summonerId);
+        url.paramList("championIds", championIds);
+        evaluateRankedQueues(client, url);
         if (beginIndex != 0 && endIndex != 0) {
-            url.append("beginIndex=")
-                    .append(beginIndex)
-                    .append('&')
-                    .append("endIndex=")
-                    .append(endIndex)
-                    .append('&');
+            url.param("beginIndex", beginIndex)
+                    .param("endIndex", endIndex);
         }
-        end();
+        return url.end();
     }
     
-    private MatchHistory() {
-        rateLimited = true;
+    private MatchHistory(Builder url) {
+        super(true, url);
     }
 
 }
@@ -1,150 +1,487 @@
 package riotapiwrapper.request;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.net.URL;
-import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
-import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
+import riotapiwrapper.Regions;
+import riotapiwrapper.util.ResponseHandler;
+import riotapiwrapper.util.StreamingResponseHandler;
 
 
 /**
  * Abstract class for creating, submitting and handling API requests.
- * 
+ * <p>
+ * A request is a description of an API call: the path of the endpoint and its
+ * query parameters. Subclasses build its URL once from their factory methods
+ * with a {@code Builder}, whose {@code end()} freezes the URL and renders it,
+ * and hand the builder to the constructor. Every field of a request is final,
+ * so a request can be shared between threads without any other
+ * synchronization. The API key is only added when the request is sent. The
+ * same request can therefore be sent any number of times, with any key, and
+ * be used as a key in maps and caches. Two requests are equal if they are of
+ * the same class and render the same URL.
+ *
  * @author  Christopher McFall
  * @see     Response
  */
 public abstract class Request {
-    
-    /**
-     * The {@code StringBuilder} object used to build the request's URL to the
-     * API
-     * 
-     * @see StringBuilder
-     */
-    protected StringBuilder url = new StringBuilder();
-    
+
     /**
      * A flag indicating weather a request will count against your API key's
      * rate limits.
      */
-    protected boolean rateLimited;
+    protected final boolean rateLimited;
+
+    /**
+     * The client the request is built with. Its region, API key and
+     * {@code Transport} are used to build and send the request.
+     */
+    protected final LolClient client;
+
+    private final Regions region;
+    private final boolean keyed;
+    private final String rendered;
+    private final String keyPrefix;
+
+    /**
+     * Creates a request with the URL of the given builder. A builder whose
+     * {@code end()} has not been called is frozen here, for requests that do
+     * not need an API key.
+     *
+     * @param rateLimited   A flag indicating if the request will count against
+     *                      your API key's rate limits.
+     * @param url           The builder of the request's URL.
+     */
+    protected Request(boolean rateLimited, Builder url) {
+        this.rateLimited = rateLimited;
+        url.freeze();
+        client = url.client;
+        region = url.region;
+        keyed = url.keyed;
+        rendered = url.rendered;
+        keyPrefix = keyed
+                ? rendered + (url.params.isEmpty() ? '?' : '&') + "api_key="
+                : null;
+    }
+
+    /**
+     * String value of the Request URL, without the API key.
+     *
+     * @return  The request URL to the API server, without the API key.
+     */
+    @Override
+    public String toString() {
+        return rendered;
+    }
+
+    /**
+     * Returns the full URL the request is sent to with the given key.
+     *
+     * @param key   The API key to send the request with. Ignored for requests
+     *              that do not need a key.
+     * @return      The full request URL to the API server.
+     */
+    public String url(String key) {
+        if (!keyed) return rendered;
+        return keyPrefix.concat(key);
+    }
+
+    /**
+     * Returns a flag indicating if the request needs an API key to be sent.
+     *
+     * @return  A flag indicating if the request needs an API key.
+     */
+    public boolean needsKey() {
+        return keyed;
+    }
+
+    /**
+     * This method is meant to be used in a {@code RequestArbiter}.
+     * <p>
+     * Sends the request to the API server and returns the response. manually
+     * submitting a request with this method bypasses your API key's designated
+     * {@code RequestArbiter} and can risk violating your rate limit.
+     * <p>
+     * The request is sent with the API key and {@code Transport} of the client
+     * it was built with.
+     *
+     * @return  The {@code Response} from the API server.
+     * @see     Response
+     * @see     Transport
+     * @see     riotapiwrapper.util.RequestArbiter
+     */
+    public Response send() {
+        return send(keyed ? client.getApi().KEY : null);
+    }
+
+    /**
+     * This method is meant to be used in a {@code RequestArbiter}.
+     * <p>
+     * Sends the request to the API server with the given API key instead of
+     * the client's, and returns the response. Used by arbiters that spread
+     * requests over several keys.
+     * <p>
+     * A response is returned even if the {@code Transport} fails by throwing
+     * instead of reporting the failure in a {@code Response}, with a code of 0
+     * and the exception as its message, so handlers waiting on the request
+     * are always answered.
+     *
+     * @param key   The API key to send the request with.
+     * @return      The {@code Response} from the API server.
+     * @see     riotapiwrapper.util.KeyPool
+     */
+    public Response send(String key) {
+        String url = url(key);
+        try {
+            return client.transport().fetch(url, type());
+        } catch (RuntimeException e) {
+            return new Response(url, e.toString(), 0,
+                    Collections.<String, String>emptyMap(), 0, 0, type());
+        }
+    }
     
     /**
-     * Builds the beginning of most API requests' URLs, using the current
-     * region selected with {@code LolAPI#setRegion()}. If one has not been
-     * selected, {@code Region#NA} will be used.
+     * This method is meant to be used in a {@code RequestArbiter}.
+     * <p>
+     * Sends the request to the API server and gives the response to the
+     * handler. If the handler is a {@code StreamingResponseHandler}, a
+     * successful response is streamed to it while it is arriving.
      * 
-     * @see riotapiwrapper.Regions
+     * @param handler   The handler for the response.
+     * @see     #send()
      */
-    protected void begin() {
-        url.append("https://")
-                .append(LolAPI.getCurrentRegion().ABREV)
-                .append(".api.pvp.net/api/lol/");
+    public void send(ResponseHandler handler) {
+        send(keyed ? client.getApi().KEY : null, handler);
     }
     
     /**
-     * Completes the URL request's URL for most API requests, adding the API
-     * key given with {@code LolAPI.setKey()}. If a key has not yet been given
-     * any requests that require a key will receive a 
-     * {@code HTTPstatus@UNAUTHORIZED} response.
+     * This method is meant to be used in a {@code RequestArbiter}.
+     * <p>
+     * Sends the request to the API server with the given API key instead of
+     * the client's, and gives the response to the handler. If the handler is
+     * a {@code StreamingResponseHandler}, a successful response is streamed
+     * to it while it is arriving.
      * 
-     * @see HTTPstatus#UNAUTHORIZED
-     * @throws  IllegalStateException if an API key has not been set.
+     * @param key       The API key to send the request with.
+     * @param handler   The handler for the response.
+     * @see     #send(String)
      */
-    protected void end() {
-        if (LolAPI.getApi() == null) {
-            throw new IllegalStateException("An API has not been provided to "
-                    + "make this call.");
+    public void send(String key, ResponseHandler handler) {
+        if (handler instanceof StreamingResponseHandler) {
+            Response response = stream(key,
+                    (StreamingResponseHandler) handler);
+            if (response != null) handler.operate(response);
+            return;
         }
-        url.append("api_key=")
-                .append(LolAPI.getApi().KEY);
+        handler.operate(send(key));
     }
     
     /**
-     * String value of the Request URL.
+     * This method is meant to be used in a {@code RequestArbiter}.
+     * <p>
+     * Sends the request to the API server and streams a successful response
+     * to the handler while it is arriving. Any other response is returned in
+     * full without being given to the handler.
      * 
-     * @return  The request URL to the API server.
+     * @param handler   The handler to stream a successful response to.
+     * @return          null if the response was successful and given to the
+     *                  handler, or else the {@code Response} from the API
+     *                  server.
+     * @see     Transport#fetch(String, RequestType, StreamingResponseHandler)
      */
-    @Override
-    public String toString() {
-        return url.toString();
+    public Response stream(StreamingResponseHandler handler) {
+        return stream(keyed ? client.getApi().KEY : null, handler);
     }
     
     /**
      * This method is meant to be used in a {@code RequestArbiter}.
      * <p>
-     * Sends the request to the API server and returns the response. manually 
-     * submitting a request with this method bypasses your API key's designated 
-     * {@code RequestArbiter} and can risk violating your rate limit.
+     * Sends the request to the API server with the given API key instead of
+     * the client's, and streams a successful response to the handler while it
+     * is arriving. Any other response is returned in full without being given
+     * to the handler.
+     * <p>
+     * As with {@code send(String)}, a {@code Transport} or handler that
+     * throws instead of reporting the failure in a {@code Response} has the
+     * failure returned with a code of 0 and the exception as its message, so
+     * the handler is always answered.
      * 
-     * @return  The {@code Response} from the API server.
-     * @see     Response
-     * @see     riotapiwrapper.util.RequestArbiter
+     * @param key       The API key to send the request with.
+     * @param handler   The handler to stream a successful response to.
+     * @return          null if the response was successful and given to the
+     *                  handler, or else the {@code Response} from the API
+     *                  server or the failure to receive it.
      */
-    public Response send() {
-        return read(toString(), type());
+    public Response stream(String key, StreamingResponseHandler handler) {
+        String url = url(key);
+        try {
+            return client.transport().fetch(url, type(), handler);
+        } catch (RuntimeException e) {
+            return new Response(url, e.toString(), 0,
+                    Collections.<String, String>emptyMap(), 0, 0, type());
+        }
     }
-    
+
+    /**
+     * Returns the region whose servers the request is sent to. Returns null
+     * for requests that do not go to a regional API server, like
+     * {@code LolStatus} requests.
+     *
+     * @return  The region the request is sent to, or null.
+     */
+    public Regions region() {
+        return region;
+    }
+
     /**
      * Returns a flag indicating if the request will count against your API
      * key's rate limits.
-     * 
+     *
      * @return  A flag indicating if the request will count against your API
      *          key's rate limits.
      */
     public boolean isRateLimited() {
         return rateLimited;
     }
-    
+
+    /**
+     * Returns the client the request was built with.
+     *
+     * @return  The client the request was built with.
+     */
+    public LolClient client() {
+        return client;
+    }
+
     /**
      * Returns the request's {@code RequestTypes}
-     * 
+     *
      * @return  The request's {@code RequestTypes}
      * @see     RequestType
      */
     public abstract RequestType type();
-    
+
     /**
      * Returns a flag indicating if the request has a subtype.
-     * 
+     *
      * @return  A flag indicating if the request has a subtype.
      */
     public abstract boolean hasSubtype();
-    
-    private static String readAll(Reader rd) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        int c;
-        while ((c = rd.read()) != -1) {
-            sb.append((char) c);
-        }
-        return sb.toString();
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || other.getClass() != getClass()) return false;
+        Request request = (Request) other;
+        return keyed == request.keyed && rendered.equals(request.rendered);
     }
-    
-    private static Response read(String url, RequestType type) {
-        try {
-            InputStream is = new URL(url).openStream();
-            try {
-                BufferedReader rd = new BufferedReader(new InputStreamReader(is,
-                        Charset.forName("UTF-8")));
-                return new Response(url, readAll(rd), HTTPstatus.SUCCESSFUL, 
-                        type);
-            } catch (IOException e) {
-                System.err.println("IOException: " + e.getMessage());
-                return new Response(url, "NO GOOD " + e.getMessage(), type);
-            } finally {
-                try {
-                    is.close();
-                } catch (IOException e) {
-                    
-                }
+
+    @Override
+    public int hashCode() {
+        //String caches its own hash
+        return rendered.hashCode();
+    }
+
+    /**
+     * Builds the URL of a request. Its methods add to the URL in the order
+     * they are called, apart from the query parameters, which are kept sorted
+     * by name so that requests for the same data render the same URL. Once
+     * {@code end()} is called, or the builder is given to a request, the URL
+     * is frozen and cannot be changed.
+     */
+    protected static final class Builder {
+
+        private final LolClient client;
+        private final StringBuilder path = new StringBuilder();
+        private final Map<String, String> params =
+                new TreeMap<String, String>();
+        private Regions region;
+        private boolean keyed;
+        private String rendered;
+
+        /**
+         * Creates a builder for a request built with the given client.
+         *
+         * @param client    The client the request is built with.
+         */
+        public Builder(LolClient client) {
+            this.client = client;
+        }
+
+        /**
+         * Builds the beginning of most API requests' URLs, using the region of
+         * the client the request is built with.
+         *
+         * @return  This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         * @see riotapiwrapper.Regions
+         */
+        public Builder begin() {
+            return begin("api/lol/");
+        }
+
+        /**
+         * Builds the beginning of the URL for a request to one of the regional
+         * API server's services other than the main API, using the region of
+         * the client the request is built with.
+         *
+         * @param service   The path of the service on the regional API server.
+         * @return          This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder begin(String service) {
+            checkBuilding();
+            region = client.region();
+            return path("https://")
+                    .path(region.ABREV)
+                    .path(".api.pvp.net/")
+                    .path(service);
+        }
+
+        /**
+         * Adds to the path of the request's URL.
+         *
+         * @param part  The text to add to the path.
+         * @return      This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder path(Object part) {
+            checkBuilding();
+            path.append(part);
+            return this;
+        }
+
+        /**
+         * Adds a comma separated list of ids to the path of the request's URL.
+         *
+         * @param parts The ids to add to the path.
+         * @return      This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder pathList(int... parts) {
+            checkBuilding();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) path.append(',');
+                path.append(parts[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a comma separated list of names or ids to the path of the
+         * request's URL.
+         *
+         * @param parts The names or ids to add to the path.
+         * @return      This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder pathList(Object... parts) {
+            checkBuilding();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) path.append(',');
+                path.append(parts[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Sets a query parameter of the request's URL.
+         *
+         * @param name  The name of the parameter.
+         * @param value The value of the parameter.
+         * @return      This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder param(String name, Object value) {
+            checkBuilding();
+            params.put(name, String.valueOf(value));
+            return this;
+        }
+
+        /**
+         * Sets a query parameter of the request's URL to a comma separated
+         * list of values. Nothing is set if there are no values.
+         *
+         * @param name      The name of the parameter.
+         * @param values    The values of the parameter.
+         * @return          This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder paramList(String name, int... values) {
+            if (values.length == 0) return this;
+            StringBuilder list = new StringBuilder();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) list.append(',');
+                list.append(values[i]);
             }
-        } catch (IOException e) {
-            return new Response(url, "NO GOOD " + e.getMessage(), type);
+            return param(name, list);
         }
+
+        /**
+         * Sets a query parameter of the request's URL to a comma separated
+         * list of values. Nothing is set if there are no values.
+         *
+         * @param name      The name of the parameter.
+         * @param values    The values of the parameter.
+         * @return          This builder.
+         * @throws  IllegalStateException if the URL has already been built.
+         */
+        public Builder paramList(String name, Object... values) {
+            if (values.length == 0) return this;
+            StringBuilder list = new StringBuilder();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) list.append(',');
+                list.append(values[i]);
+            }
+            return param(name, list);
+        }
+
+        /**
+         * Completes the URL for most API requests, marking it as needing an
+         * API key, and freezes it. The key itself is only added when the
+         * request is sent, so the same request can be sent with any key. If a
+         * key has not yet been given any requests that require a key will
+         * receive a {@code HTTPstatus@UNAUTHORIZED} response.
+         *
+         * @return  This builder.
+         * @see HTTPstatus#UNAUTHORIZED
+         * @throws  IllegalStateException if the client does not have an API
+         *          key, or if the URL has already been built.
+         */
+        public Builder end() {
+            if (client.getApi() == null) {
+                throw new IllegalStateException("An API has not been provided "
+                        + "to make this call.");
+            }
+            checkBuilding();
+            keyed = true;
+            freeze();
+            return this;
+        }
+
+        private void freeze() {
+            if (rendered != null) return;
+            StringBuilder url = new StringBuilder(path);
+            char separator = '?';
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                url.append(separator)
+                        .append(param.getKey())
+                        .append('=')
+                        .append(param.getValue());
+                separator = '&';
+            }
+            rendered = url.toString();
+        }
+
+        private void checkBuilding() {
+            if (rendered != null) {
+                throw new IllegalStateException("the request has already been "
+                        + "built");
+            }
+        }
+
     }
-    
+
 }
@@ -1,27 +1,38 @@
 package riotapiwrapper.request;
 
-
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
- * Maintains the data received from the API server. Objects of this type
- * cannot be created except by from the Request.send() method.
+ * Maintains the data received from the API server. Objects of this type are
+ * created by the {@code Transport} a request is sent with.
+ * <p>
+ * The body is kept as the UTF-8 bytes it was received as, and only decoded
+ * into a {@code String} the first time {@code data()} is called. Handlers
+ * that only store or forward responses can use {@code bytes()} instead, and
+ * never pay for decoding the body or for holding it twice.
+ * <p>
+ * The API key a request was sent with is dropped from the URL a response is
+ * created with, so handlers can log, store or share responses without
+ * handing out the key.
  * 
  * @author Christopher McFall
  * @see Request#send()
+ * @see Transport
  *
  */
 public class Response {
     
     /**
-     * The request URL sent to the API server for the response.
+     * The request URL sent to the API server for the response, without the
+     * API key it was sent with.
      */
     public final String url;
     
-    /**
-     * The JSON data or error message recieved from the API server.
-     */
-    public final String data;
-    
     /**
      * The HTTP status given from the server.
      * 
@@ -29,6 +40,24 @@ public class Response {
      */
     public final HTTPstatus status;
     
+    /**
+     * The exact HTTP status code given from the server, or 0 if the server
+     * could not be reached and no response was received.
+     */
+    public final int code;
+    
+    /**
+     * Nanoseconds from sending the request until the response's status and
+     * headers were received, or 0 if not measured.
+     */
+    public final long firstByteNanos;
+    
+    /**
+     * Nanoseconds from sending the request until the whole response was
+     * received, or 0 if not measured.
+     */
+    public final long totalNanos;
+    
     /**
      * The type of request sent to receive this response.
      * 
@@ -36,49 +65,288 @@ public class Response {
      */
     public final RequestType requestType;
     
-    Response(String url, String data, HTTPstatus code, RequestType type) {
-        this.url = url;
+    private final Map<String, String> headers;
+    
+    //at least one of these is set, the other is made from it when needed
+    private volatile ByteBuffer body;
+    private volatile String data;
+    
+    /**
+     * Creates a {@code Response}. Meant to be used by {@code Transport}
+     * implementations.
+     * 
+     * @param url   The request URL sent to the API server.
+     * @param data  The data or error message received from the API server.
+     * @param code  The HTTP status given from the server.
+     * @param type  The type of request sent to receive this response.
+     */
+    public Response(String url, String data, HTTPstatus code, 
+            RequestType type) {
+        this(url, data, code.CODE, Collections.<String, String>emptyMap(), 0,
+                0, type);
+    }
+    
+    /**
+     * Creates a {@code Response} with the exact status code, headers and
+     * timing of the exchange. Meant to be used by {@code Transport}
+     * implementations.
+     * 
+     * @param url               The request URL sent to the API server.
+     * @param data              The data or error message received from the
+     *                          API server.
+     * @param code              The HTTP status code given from the server, or
+     *                          0 if no response was received.
+     * @param headers           The response headers to keep. Names are
+     *                          matched without regard to case.
+     * @param firstByteNanos    Nanoseconds until the status and headers were
+     *                          received.
+     * @param totalNanos        Nanoseconds until the whole response was 
+     *                          received.
+     * @param type              The type of request sent to receive this
+     *                          response.
+     */
+    public Response(String url, String data, int code,
+            Map<String, String> headers, long firstByteNanos, long totalNanos,
+            RequestType type) {
+        this(url, code, headers, firstByteNanos, totalNanos, type);
         this.data = data;
-        this.status = code;
-        this.requestType = type;
     }
     
-    /*
-     * Handling the http status code is pretty hacky right now. Current plan
-     * is to change the error code in the enum to a string.
+    /**
+     * Creates a {@code Response} from the UTF-8 bytes of its body, with the
+     * exact status code, headers and timing of the exchange. The body is not
+     * copied or decoded, and must not be changed afterwards. Meant to be used
+     * by {@code Transport} implementations.
+     * 
+     * @param url               The request URL sent to the API server.
+     * @param body              The UTF-8 bytes of the data or error message
+     *                          received from the API server, from its
+     *                          position to its limit.
+     * @param code              The HTTP status code given from the server, or
+     *                          0 if no response was received.
+     * @param headers           The response headers to keep. Names are
+     *                          matched without regard to case.
+     * @param firstByteNanos    Nanoseconds until the status and headers were
+     *                          received.
+     * @param totalNanos        Nanoseconds until the whole response was 
+     *                          received.
+     * @param type              The type of request sent to receive this
+     *                          response.
      */
-    Response(String url, String data, RequestType type) {
-        this.url = url;
+    public Response(String url, ByteBuffer body, int code,
+            Map<String, String> headers, long firstByteNanos, long totalNanos,
+            RequestType type) {
+        this(url, code, headers, firstByteNanos, totalNanos, type);
+        this.body = body.slice();
+    }
+    
+    private Response(String url, int code, Map<String, String> headers,
+            long firstByteNanos, long totalNanos, RequestType type) {
+        this.url = withoutKey(url);
+        this.code = code;
+        this.status = HTTPstatus.getStatus(code);
+        this.firstByteNanos = firstByteNanos;
+        this.totalNanos = totalNanos;
         this.requestType = type;
-        if (!data.substring(0, 7).equals("NO GOOD")) {
-            this.data = data;
-            this.status = HTTPstatus.SUCCESSFUL;
+        if (headers.isEmpty()) {
+            this.headers = Collections.emptyMap();
         } else {
-            this.data = data.substring(8);
-            String errCode = data.substring(44, 47);
-            boolean isInt;
-            try {
-                Integer.parseInt(errCode);
-                isInt = true;
-            } catch (NumberFormatException e) {
-                isInt = false;
+            Map<String, String> copy = 
+                    new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+            copy.putAll(headers);
+            this.headers = Collections.unmodifiableMap(copy);
+        }
+    }
+    
+    /**
+     * Returns the JSON data or error message received from the API server.
+     * The body is decoded the first time this is called, and the same
+     * {@code String} is returned after that.
+     * 
+     * @return  The JSON data or error message received from the API server.
+     */
+    public String data() {
+        String decoded = data;
+        if (decoded == null) {
+            ByteBuffer bytes = body;
+            if (bytes.hasArray()) {
+                decoded = new String(bytes.array(), 
+                        bytes.arrayOffset() + bytes.position(),
+                        bytes.remaining(), StandardCharsets.UTF_8);
+            } else {
+                decoded = StandardCharsets.UTF_8.decode(bytes.duplicate())
+                        .toString();
             }
-            if (isInt) {
-                this.status = HTTPstatus.getStatus(Integer.parseInt(errCode));
+            data = decoded;
+        }
+        return decoded;
+    }
+    
+    /**
+     * Returns the UTF-8 bytes of the data or error message received from the
+     * API server, without decoding them. The returned buffer is read only and
+     * holds the body from its position to its limit.
+     * 
+     * @return  A read only buffer of the response body.
+     */
+    public ByteBuffer bytes() {
+        ByteBuffer bytes = body;
+        if (bytes == null) {
+            bytes = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+            body = bytes;
+        }
+        return bytes.asReadOnlyBuffer();
+    }
+    
+    /**
+     * Returns the UTF-8 bytes of the data or error message received from the
+     * API server as a stream, without copying them.
+     * 
+     * @return  A stream of the response body.
+     */
+    public InputStream stream() {
+        return new BodyStream(bytes());
+    }
+    
+    /**
+     * Returns the length of the response body in UTF-8 bytes.
+     * 
+     * @return  The length of the response body in bytes.
+     */
+    public int length() {
+        ByteBuffer bytes = body;
+        if (bytes != null) return bytes.remaining();
+        //counted without encoding, so nothing is kept twice
+        String decoded = data;
+        int length = 0;
+        for (int i = 0; i < decoded.length(); i++) {
+            char c = decoded.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < decoded.length()
+                    && Character.isLowSurrogate(decoded.charAt(i + 1))) {
+                length += 4;
+                ++i;
             } else {
-                this.status = HTTPstatus.DATA_NOT_FOUND;
+                length += 3;
             }
-            
         }
+        return length;
+    }
+    
+    /**
+     * Returns the value of a response header, or null if the server did not
+     * send it or it was not kept by the {@code Transport}.
+     * 
+     * @param name  The name of the header, in any case.
+     * @return      The value of the header, or null.
+     */
+    public String header(String name) {
+        return headers.get(name);
+    }
+    
+    /**
+     * Returns the response headers kept by the {@code Transport}.
+     * 
+     * @return  An unmodifiable map of the kept response headers.
+     */
+    public Map<String, String> headers() {
+        return headers;
+    }
+    
+    /**
+     * Returns how many seconds the server asked to wait before sending 
+     * another request, from the Retry-After header. Returns -1 if the header
+     * was not sent or is not a number of seconds.
+     * 
+     * @return  The seconds to wait before retrying, or -1.
+     */
+    public long retryAfter() {
+        String value = headers.get("Retry-After");
+        if (value == null) return -1;
+        value = value.trim();
+        if (value.isEmpty()) return -1;
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) return -1;
+        }
+        if (value.length() > 18) return Long.MAX_VALUE;
+        return Long.parseLong(value);
+    }
+    
+    /**
+     * Returns a flag indicating if a response was received from the server
+     * at all.
+     * 
+     * @return  false if the server could not be reached.
+     */
+    public boolean isReceived() {
+        return code != 0;
+    }
+    
+    /*
+     * Drops the api_key parameter from a URL, leaving any other parameters
+     * as they were.
+     */
+    private static String withoutKey(String url) {
+        if (url == null) return null;
+        int key = url.indexOf("api_key=");
+        if (key < 1) return url;
+        char before = url.charAt(key - 1);
+        if (before != '?' && before != '&') return url;
+        int end = url.indexOf('&', key);
+        if (end < 0) return url.substring(0, key - 1);
+        return url.substring(0, key).concat(url.substring(end + 1));
     }
     
     @Override
     public String toString() {
         if (status == HTTPstatus.SUCCESSFUL) {
-            return data;
+            return data();
         } else {
             return status.ERROR;
         }
     }
     
+    /*
+     * Reads a body straight out of its buffer.
+     */
+    private static final class BodyStream extends InputStream {
+        
+        private final ByteBuffer bytes;
+        
+        BodyStream(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+        
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xff : -1;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!bytes.hasRemaining()) return -1;
+            len = Math.min(len, bytes.remaining());
+            bytes.get(b, off, len);
+            return len;
+        }
+        
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, bytes.remaining()));
+            bytes.position(bytes.position() + skipped);
+            return skipped;
+        }
+        
+        @Override
+        public int available() {
+            return bytes.remaining();
+        }
+        
+    }
+    
 }
@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the stats-v1.3 end point for the League of Legends public API.
@@ -28,9 +29,21 @@ public class Stats extends Request {
      *                      the current season.
      */
     public static Stats ranked(int summonerId) {
-        Stats stats = new Stats();
-        stats.build(summonerId, true, 5);
-        return stats;
+        return ranked(LolAPI.client(), summonerId);
+    }
+    
+    /**
+     * Creates a request for a specified summoner's ranked stats for the 
+     * current season.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    The specified summoner whose ranked stats are to be
+     *                      requested.
+     * @return              A request for a specified summoners ranked stats for
+     *                      the current season.
+     */
+    public static Stats ranked(LolClient client, int summonerId) {
+        return new Stats(build(client, summonerId, true, 5));
     }
     
     /**
@@ -44,9 +57,22 @@ public class Stats extends Request {
      *                      the specified season.
      */
     public static Stats ranked(int summonerId, int season) {
-        Stats stats = new Stats();
-        stats.build(summonerId, true, season);
-        return stats;
+        return ranked(LolAPI.client(), summonerId, season);
+    }
+    
+    /**
+     * Creates a request for a specified summoner's ranked stats for the 
+     * specified season.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    The specified summoner whose ranked stats are to be
+     *                      requested.
+     * @param season        The season to draw the stats from.
+     * @return              A request for a specified summoners ranked stats for
+     *                      the specified season.
+     */
+    public static Stats ranked(LolClient client, int summonerId, int season) {
+        return new Stats(build(client, summonerId, true, season));
     }
     
     /**
@@ -59,9 +85,21 @@ public class Stats extends Request {
      *                      for the current season.
      */
     public static Stats summary(int summonerId) {
-        Stats stats = new Stats();
-        stats.build(summonerId, false, 5);
-        return stats;
+        return summary(LolAPI.client(), summonerId);
+    }
+    
+    /**
+     * Creates a request for a specified summoner's overall stats for the 
+     * current season.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    The specified summoner whose overall stats are to be
+     *                      requested.
+     * @return              A request for a specified summoners overall stats 
+     *                      for the current season.
+     */
+    public static Stats summary(LolClient client, int summonerId) {
+        return new Stats(build(client, summonerId, false, 5));
     }
     
     /**
@@ -75,9 +113,22 @@ public class Stats extends Request {
      *                      for the specified season.
      */
     public static Stats summary(int summonerId, int season) {
-        Stats stats = new Stats();
-        stats.build(summonerId, false, season);
-        return stats;
+        return summary(LolAPI.client(), summonerId, season);
+    }
+    
+    /**
+     * Creates a request for a specified summoner's overall stats for the 
+     * specified season.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerId    The specified summoner whose overall stats are to be
+     *                      requested.
+     * @param season        The season to draw the stats from.
+     * @return              A request for a specified summoners overall stats
+     *                      for the specified season.
+     */
+    public static Stats summary(LolClient client, int summonerId, int season) {
+        return new Stats(build(client, summonerId, false, season));
     }
     
     public RequestType type() {
@@ -88,27 +139,27 @@ public class Stats extends Request {
         return false;
     }
     
-    private void build(int summonerId, boolean ranked, int season) {
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(summonerId);
-        if (ranked) url.append("/ranked");
-        else url.append("/summary");
-        url.append('?');
+    private static Builder build(LolClient client, int summonerId,
+            boolean ranked, int season) {
+        Builder url = new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path(summonerId);
+        if (ranked) url.path("/ranked");
+        else url.path("/summary");
         switch (season) {
-            case 3: url.append("season=SEASON3&");
+            case 3: url.param("season", "SEASON3");
                 break;
-            case 4: url.append("season=SEASON2014&");
+            case 4: url.param("season", "SEASON2014");
                 break;
             default:
                 break;
         }
-        end();
+        return url.end();
     }
     
-    private Stats() {
-        rateLimited = true;
+    private Stats(Builder url) {
+        super(true, url);
     }
 
 }
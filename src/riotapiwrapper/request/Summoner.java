@@ -1,6 +1,9 @@
 package riotapiwrapper.request;
 
+import java.util.Locale;
+
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the summoner-v1.4 end point for the League of Legends public API.
@@ -18,18 +21,33 @@ public class Summoner extends Request {
 
     private static final String base = "/v1.4/summoner/";
     
-    private Subtype subtype;
+    private final Subtype subtype;
     
     /**
-     * Creates a request for a list of summoners' ids.
+     * Creates a request for a list of summoners' ids. Names are standardized
+     * first, so names that only differ in case or spacing make the same
+     * request.
      * 
      * @param   names The names of the summoners' whose ids are requested.
      * @return  A request for a list of summoners' ids.
+     * @see     #standardize(String)
      */
     public static Summoner byName(String... names) {
-        Summoner summoner = new Summoner(Subtype.NONE);
-        summoner.build(names);
-        return summoner;
+        return byName(LolAPI.client(), names);
+    }
+    
+    /**
+     * Creates a request for a list of summoners' ids. Names are standardized
+     * first, so names that only differ in case or spacing make the same
+     * request.
+     * 
+     * @param   client The client the request is built with.
+     * @param   names The names of the summoners' whose ids are requested.
+     * @return  A request for a list of summoners' ids.
+     * @see     #standardize(String)
+     */
+    public static Summoner byName(LolClient client, String... names) {
+        return new Summoner(Subtype.NONE, build(client, names));
     }
     
     /**
@@ -39,9 +57,18 @@ public class Summoner extends Request {
      * @return      A request for a list of summoners' basic data.
      */
     public static Summoner byIds(int... ids) {
-        Summoner summoners = new Summoner(Subtype.NONE);
-        summoners.build(ids);
-        return summoners;
+        return byIds(LolAPI.client(), ids);
+    }
+    
+    /**
+     * Creates a request for a list of summoners' basic data.
+     * 
+     * @param client The client the request is built with.
+     * @param ids   Ids of the summoners' whose data is requested
+     * @return      A request for a list of summoners' basic data.
+     */
+    public static Summoner byIds(LolClient client, int... ids) {
+        return new Summoner(Subtype.NONE, build(client, ids));
     }
     
     /**
@@ -51,10 +78,19 @@ public class Summoner extends Request {
      * @return              A request for a list of summoners' current masteries.
      */
     public static Summoner masteries(int... summonerIds) {
+        return masteries(LolAPI.client(), summonerIds);
+    }
+    
+    /**
+     * Creates a request for a list of summoners' current masteries.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerIds   Ids of the summoners' whose masteries are requested
+     * @return              A request for a list of summoners' current masteries.
+     */
+    public static Summoner masteries(LolClient client, int... summonerIds) {
         Subtype type = Subtype.MASTERIES;
-        Summoner summoners = new Summoner(type);
-        summoners.build(type, summonerIds);
-        return summoners;
+        return new Summoner(type, build(client, type, summonerIds));
     }
     
     /**
@@ -64,10 +100,19 @@ public class Summoner extends Request {
      * @return              A request for a list of summoners' current runes.
      */
     public static Summoner runes(int... summonerIds) {
+        return runes(LolAPI.client(), summonerIds);
+    }
+    
+    /**
+     * Creates a request for a list of summoners' current runes.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerIds   Ids of the summoners' whose runes are requested
+     * @return              A request for a list of summoners' current runes.
+     */
+    public static Summoner runes(LolClient client, int... summonerIds) {
         Subtype type = Subtype.RUNES;
-        Summoner summoners = new Summoner(type);
-        summoners.build(type, summonerIds);
-        return summoners;
+        return new Summoner(type, build(client, type, summonerIds));
     }
     
     /**
@@ -77,10 +122,19 @@ public class Summoner extends Request {
      * @return              A request for a list of summoners' current names.
      */
     public static Summoner name(int... summonerIds) {
+        return name(LolAPI.client(), summonerIds);
+    }
+    
+    /**
+     * Creates a request for a list of summoners' current names.
+     * 
+     * @param client        The client the request is built with.
+     * @param summonerIds   Ids of the summoners' whose names are requested
+     * @return              A request for a list of summoners' current names.
+     */
+    public static Summoner name(LolClient client, int... summonerIds) {
         Subtype type = Subtype.NAME;
-        Summoner summoners = new Summoner(type);
-        summoners.build(type, summonerIds);
-        return summoners;
+        return new Summoner(type, build(client, type, summonerIds));
     }
     
     /**
@@ -101,67 +155,68 @@ public class Summoner extends Request {
         return true;
     }
     
-    private void build(Subtype type, int... summonerIds) {
+    private static Builder build(LolClient client, Subtype type,
+            int... summonerIds) {
         if (summonerIds.length > 40) {
             throw new IllegalArgumentException("the max ammount of ids is 40");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(summonerIds[0]);
-        if (summonerIds.length > 1) {
-            for (int i = 1; i < summonerIds.length; i++) {
-                url.append(',')
-                        .append(summonerIds[i]);
-            }
-        }
-        url.append('/')
-                .append(type)
-                .append('?');
-        end();
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .pathList(summonerIds)
+                .path('/')
+                .path(type)
+                .end();
     }
     
-    private void build(int... summonerIds) {
+    private static Builder build(LolClient client, int... summonerIds) {
         if (summonerIds.length > 40) {
             throw new IllegalArgumentException("the max ammount of ids is 40");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(summonerIds[0]);
-        if (summonerIds.length > 1) {
-            for (int i = 1; i < summonerIds.length; i++) {
-                url.append(',')
-                        .append(summonerIds[i]);
-            }
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .pathList(summonerIds)
+                .end();
+    }
+    
+    /**
+     * Returns a summoner name the way the API server keys it in responses, in
+     * lower case and without spaces. The server treats names that only differ
+     * in case or spacing as the same name.
+     * 
+     * @param name  The summoner name.
+     * @return      The standardized summoner name.
+     */
+    public static String standardize(String name) {
+        StringBuilder standard = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) standard.append(c);
         }
-        url.append('?');
-        end();
+        return standard.toString().toLowerCase(Locale.ROOT);
     }
     
-    private void build(String... names) {
+    private static Builder build(LolClient client, String... names) {
         if (names.length > 40) {
             throw new IllegalArgumentException("the max ammount of names is "
                     + "40");
         }
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append("by-name/")
-                .append(names[0]);
-        if (names.length > 1) {
-            for (int i = 1; i < names.length; i++) {
-                url.append(',')
-                        .append(names[i]);
-            }
+        String[] standard = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            standard[i] = standardize(names[i]);
         }
-        url.append('?');
-        end();
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path("by-name/")
+                .pathList((Object[]) standard)
+                .end();
     }
     
-    private Summoner(Subtype subtype) {
+    private Summoner(Subtype subtype, Builder url) {
+        super(true, url);
         this.subtype = subtype;
-        rateLimited = true;
     }
     
     private enum Subtype {
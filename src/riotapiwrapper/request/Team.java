@@ -1,6 +1,7 @@
 package riotapiwrapper.request;
 
 import riotapiwrapper.LolAPI;
+import riotapiwrapper.LolClient;
 
 /**
  * Implements the team-v2.4 end point for the League of Legends public API.
@@ -27,8 +28,20 @@ public class Team extends Request {
      * @throws IllegalArgumentException if more than 10 summoners are requested.
      */
     public static Team bySummonerId(int... ids) {
-        Team team = new Team();
-        team.build(ids);
+        return bySummonerId(LolAPI.client(), ids);
+    }
+    
+    /**
+     * Creates a request for a list of teams for a list of specified summoners.
+     * 
+     * @param client The client the request is built with.
+     * @param ids   list of specified summoners.
+     * @return      A request for a list of teams for a list of specified 
+     *              summoners.
+     * @throws IllegalArgumentException if more than 10 summoners are requested.
+     */
+    public static Team bySummonerId(LolClient client, int... ids) {
+        Team team = new Team(build(client, ids));
         System.out.println(team);
         return team;
     }
@@ -41,8 +54,19 @@ public class Team extends Request {
      * @throws IllegalArgumentException if more than 10 teams are requested.
      */
     public static Team byTeamId(String... ids) {
-        Team team = new Team();
-        team.build(ids);
+        return byTeamId(LolAPI.client(), ids);
+    }
+    
+    /**
+     * Creates a request for a list of teams by their ids.
+     * 
+     * @param client The client the request is built with.
+     * @param ids   The ids of the teams requested
+     * @return      A request for a list of teams.
+     * @throws IllegalArgumentException if more than 10 teams are requested.
+     */
+    public static Team byTeamId(LolClient client, String... ids) {
+        Team team = new Team(build(client, ids));
         System.out.println(team);
         return team;
     }
@@ -55,43 +79,29 @@ public class Team extends Request {
         return false;
     }
     
-    private void build(String... ids) {
+    private static Builder build(LolClient client, String... ids) {
         if (ids.length > 10) throw new IllegalArgumentException("The max "
                 + "length of ids is 10");
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append(ids[0]);
-        if (ids.length > 1) {
-            for (int i = 1; i < ids.length; i++) {
-                url.append(',')
-                        .append(ids[i]);
-            }
-        }
-        url.append('?');
-        end();
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .pathList((Object[]) ids)
+                .end();
     }
     
-    private void build(int... ids) {
+    private static Builder build(LolClient client, int... ids) {
         if (ids.length > 10) throw new IllegalArgumentException("The max "
                 + "length of ids is 10");
-        begin();
-        url.append(LolAPI.getCurrentRegion().ABREV)
-                .append(base)
-                .append("by-summoner/")
-                .append(ids[0]);
-        if (ids.length > 1) {
-            for (int i = 1; i < ids.length; i++) {
-                url.append(',')
-                        .append(ids[i]);
-            }
-        }
-        url.append('?');
-        end();
+        return new Builder(client).begin()
+                .path(client.region().ABREV)
+                .path(base)
+                .path("by-summoner/")
+                .pathList(ids)
+                .end();
     }
     
-    private Team() {
-        rateLimited = true;
+    private Team(Builder url) {
+        super(true, url);
     }
 
 }
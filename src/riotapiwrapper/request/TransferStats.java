@@ -0,0 +1,113 @@
+package riotapiwrapper.request;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the bytes received for each {@code RequestType}, both as
+ * they came over the wire and after being decompressed. Comparing the two 
+ * shows how much bandwidth compression is saving for each endpoint.
+ * <p>
+ * Safe to read while responses are still being recorded.
+ * 
+ * @see     HttpTransport#stats()
+ */
+public class TransferStats {
+    
+    private final LongAdder[] responses = adders();
+    private final LongAdder[] wireBytes = adders();
+    private final LongAdder[] decodedBytes = adders();
+    
+    TransferStats() { }
+    
+    /**
+     * Returns the number of responses received for the request type.
+     * 
+     * @param type  The request type.
+     * @return      The number of responses received.
+     */
+    public long responses(RequestType type) {
+        return responses[type.ordinal()].sum();
+    }
+    
+    /**
+     * Returns the number of body bytes received over the wire for the request
+     * type, before decompression.
+     * 
+     * @param type  The request type.
+     * @return      The number of bytes received over the wire.
+     */
+    public long wireBytes(RequestType type) {
+        return wireBytes[type.ordinal()].sum();
+    }
+    
+    /**
+     * Returns the number of body bytes received for the request type after
+     * decompression.
+     * 
+     * @param type  The request type.
+     * @return      The number of bytes after decompression.
+     */
+    public long decodedBytes(RequestType type) {
+        return decodedBytes[type.ordinal()].sum();
+    }
+    
+    /**
+     * Returns the number of body bytes received over the wire for every
+     * request type.
+     * 
+     * @return  The total number of bytes received over the wire.
+     */
+    public long wireBytes() {
+        return sum(wireBytes);
+    }
+    
+    /**
+     * Returns the number of body bytes received for every request type after
+     * decompression.
+     * 
+     * @return  The total number of bytes after decompression.
+     */
+    public long decodedBytes() {
+        return sum(decodedBytes);
+    }
+    
+    void record(RequestType type, long wire, long decoded) {
+        responses[type.ordinal()].increment();
+        wireBytes[type.ordinal()].add(wire);
+        decodedBytes[type.ordinal()].add(decoded);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (RequestType type : RequestType.values()) {
+            if (responses(type) == 0) continue;
+            sb.append(type)
+                    .append(": ")
+                    .append(responses(type))
+                    .append(" responses, ")
+                    .append(wireBytes(type))
+                    .append('/')
+                    .append(decodedBytes(type))
+                    .append(" bytes\n");
+        }
+        return sb.toString();
+    }
+    
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[RequestType.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+    
+    private static long sum(LongAdder[] adders) {
+        long total = 0;
+        for (LongAdder adder : adders) {
+            total += adder.sum();
+        }
+        return total;
+    }
+    
+}
@@ -0,0 +1,66 @@
+package riotapiwrapper.request;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+
+import riotapiwrapper.util.StreamingResponseHandler;
+
+/**
+ * Interface for how a {@code Request} reaches the API server. A
+ * {@code Transport} is used by {@code Request.send()} to fetch the request's
+ * URL, so the HTTP client, its connection handling and its timeouts can be
+ * swapped out without changing how requests are built or arbitrated.
+ * <p>
+ * Implementations are shared between every request sent, and must be safe to
+ * use from several threads at once.
+ * 
+ * @see     HttpTransport
+ * @see     Request#send()
+ */
+public interface Transport {
+    
+    /**
+     * Fetches the given URL from the API server. Failures, including the
+     * server being unreachable, are reported through the status of the
+     * returned {@code Response} rather than thrown.
+     * 
+     * @param url   The full request URL.
+     * @param type  The type of request being sent.
+     * @return      The {@code Response} from the API server.
+     */
+    public Response fetch(String url, RequestType type);
+    
+    /**
+     * Fetches the given URL from the API server, handing the body of a
+     * successful response to the handler while it is still arriving. Any
+     * other response is received in full and returned without being given to
+     * the handler, so the caller can decide what to do with it. If the body
+     * could not be read or handled, a {@code Response} with a code of 0 is
+     * returned after the handler was given the body, so the caller can tell
+     * the handler it is incomplete.
+     * <p>
+     * Transports that cannot stream can rely on the default, which receives
+     * the whole response with {@code fetch(String, RequestType)} and then
+     * hands a successful one to the handler.
+     * 
+     * @param url       The full request URL.
+     * @param type      The type of request being sent.
+     * @param handler   The handler to stream a successful response to.
+     * @return          null if the response was successful and given to the
+     *                  handler, or else the {@code Response} from the API
+     *                  server or the failure to read it.
+     */
+    public default Response fetch(String url, RequestType type,
+            StreamingResponseHandler handler) {
+        Response response = fetch(url, type);
+        if (response.status != HTTPstatus.SUCCESSFUL) return response;
+        try {
+            handler.operate(response);
+            return null;
+        } catch (UncheckedIOException e) {
+            return new Response(url, e.getCause().toString(), 0,
+                    Collections.<String, String>emptyMap(), 0, 0, type);
+        }
+    }
+    
+}
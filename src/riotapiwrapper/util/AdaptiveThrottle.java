@@ -0,0 +1,184 @@
+package riotapiwrapper.util;
+
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code DefaultThrottle} that reacts to the API server telling it that a
+ * rate limit was exceeded.
+ * <p>
+ * When a request gets a {@code HTTPstatus.RATE_LIMIT_EXCEEDED} response, the
+ * whole queue is paused for as long as the server's Retry-After header asks,
+ * or a second if it does not say, and the request is put back at the head of
+ * the queue to be sent again. Its handler only sees the response once the
+ * request gets through, or after it has been turned away 5 times.
+ * <p>
+ * If the rejection was for your key's own limits, the limits are scaled down
+ * by a quarter, to no less than a tenth of what they were given as. Every 50
+ * requests in a row that get through scale them back up by a twentieth, until
+ * they are back where they started. Only answers the server gives on its own
+ * account count as getting through, so server errors and requests that never
+ * reached it, as in an outage, do not grow the limits. This lets a key run
+ * close to its true limit without being blacklisted for repeatedly going over
+ * it. Rejections caused by the underlying service being busy pause the queue
+ * but do not change the limits.
+ * 
+ * @see     DefaultThrottle
+ */
+public class AdaptiveThrottle extends DefaultThrottle {
+    
+    private static final long DEFAULT_PAUSE = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final double SHRINK = 0.75;
+    private static final double GROW = 0.05;
+    private static final double MIN_SCALE = 0.1;
+    private static final int SUCCESSES_TO_GROW = 50;
+    private static final long SHRINK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    
+    private int successes = 0;
+    private long rejections = 0;
+    private long lastShrink = System.nanoTime() - SHRINK_INTERVAL;
+    
+    /**
+     * Creates an {@code AdaptiveThrottle} with the LoL API developer rate
+     * limits, which are 10 requests/10 seconds and 500 requests/10
+     * minutes(600 seconds).
+     */
+    public AdaptiveThrottle() {
+        super();
+    }
+    
+    /**
+     * Creates an {@code AdaptiveThrottle} with specified rate limits. If
+     * either N2 or T2 are 0, a second rate limit will not be used.
+     * 
+     * @param N1        Number of requests per time for the first rate limit.
+     * @param T1        Time limit for the first rate limit.
+     * @param N2        Number of request per time for the second rate limit.
+     *                  If 0, a second rate limit will not be used.
+     * @param T2        Time limit for the second rate limit. if 0, a second
+     *                  rate limit will not be used.
+     * @throws  IllegalArgumentException if N1, T1, N2 or T2 are < 0.
+     */
+    public AdaptiveThrottle(int N1, int T1, int N2, int T2) {
+        super(N1, T1, N2, T2);
+    }
+    
+    /**
+     * Creates an {@code AdaptiveThrottle} that takes its permits from the
+     * given {@code RateLimiter}, keeping whatever limits it already has.
+     * 
+     * @param limiter   The {@code RateLimiter} to take permits from.
+     * @throws  NullPointerException if limiter is null.
+     */
+    public AdaptiveThrottle(RateLimiter limiter) {
+        super(limiter);
+    }
+    
+    /**
+     * Returns the number of responses so far that said a rate limit was
+     * exceeded.
+     * 
+     * @return  The number of rate limited responses received.
+     */
+    public synchronized long rejections() {
+        return rejections;
+    }
+    
+    /**
+     * Returns the fraction of the given limits currently being used.
+     * 
+     * @return  The fraction of the given limits currently being used.
+     * @see     RateLimiter#scale()
+     */
+    public double rateScale() {
+        return limiter().scale();
+    }
+    
+    @Override
+    protected void send(Request request, ResponseHandler handler) {
+        int attempts = 1;
+        ResponseHandler original = handler;
+        if (handler instanceof Retry) {
+            attempts = ((Retry) handler).attempts + 1;
+            original = ((Retry) handler).handler;
+        }
+        Response response;
+        if (original instanceof StreamingResponseHandler) {
+            //only successful responses are streamed, so a 429 comes back here
+            response = request.stream((StreamingResponseHandler) original);
+            if (response == null) {
+                //a 200 was streamed in full
+                succeeded();
+                return;
+            }
+        } else {
+            response = request.send();
+        }
+        if (response.status != HTTPstatus.RATE_LIMIT_EXCEEDED) {
+            //5xx and failures to reach the server say nothing of the limits
+            if (response.code >= 200 && response.code < 500) succeeded();
+            original.operate(response);
+            return;
+        }
+        long retryAfter = response.retryAfter();
+        pause(retryAfter >= 0 ? TimeUnit.SECONDS.toNanos(retryAfter)
+                : DEFAULT_PAUSE);
+        String limitType = response.header("X-Rate-Limit-Type");
+        rejected(limitType != null && !limitType.equals("service"));
+        
+        if (attempts >= MAX_ATTEMPTS) {
+            original.operate(response);
+            return;
+        }
+        requeueFirst(request, new Retry(original, attempts));
+    }
+    
+    private synchronized void succeeded() {
+        RateLimiter limiter = limiter();
+        if (limiter.scale() >= 1) return;
+        if (++successes < SUCCESSES_TO_GROW) return;
+        successes = 0;
+        limiter.setScale(Math.min(1, limiter.scale() + GROW));
+    }
+    
+    /*
+     * Requests already in flight when the limit was hit will be rejected
+     * too, so the limits are only shrunk once for a burst of rejections.
+     */
+    private synchronized void rejected(boolean overOwnLimit) {
+        ++rejections;
+        successes = 0;
+        if (!overOwnLimit) return;
+        long now = System.nanoTime();
+        if (now - lastShrink < SHRINK_INTERVAL) return;
+        lastShrink = now;
+        RateLimiter limiter = limiter();
+        limiter.setScale(Math.max(MIN_SCALE, limiter.scale() * SHRINK));
+    }
+    
+    /*
+     * Keeps a rejected request's original handler along with how many times
+     * it has been sent.
+     */
+    private static class Retry implements ResponseHandler {
+        
+        final ResponseHandler handler;
+        final int attempts;
+        
+        Retry(ResponseHandler handler, int attempts) {
+            this.handler = handler;
+            this.attempts = attempts;
+        }
+        
+        @Override
+        public void operate(Response response) {
+            handler.operate(response);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,255 @@
+package riotapiwrapper.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Response;
+
+/**
+ * Combines lookups of single ids into requests for as many ids as each
+ * endpoint takes at a time, so many callers each looking up one id only use
+ * one request of your API key's rate limits between them.
+ * <p>
+ * Lookups are kept apart by {@code BatchEndpoint}. For each endpoint, they are
+ * held for a short window after the first one comes in, or until the
+ * endpoint's most ids are waiting, then sent together through the client's
+ * {@code makeRequestAsync()}. Each caller's future is completed with a
+ * {@code Response} holding only the id it asked for, in the same form as if
+ * it had been requested on its own. Ids missing from the combined response
+ * get a {@code HTTPstatus.DATA_NOT_FOUND} response, and errors for the
+ * combined request are passed on to every caller in it. Lookups of the same id
+ * while it is waiting share one place in the request.
+ * 
+ * @see     BatchEndpoint
+ */
+public class BatchCoalescer {
+    
+    private final LolClient client;
+    private final long window;
+    private final ScheduledThreadPoolExecutor timer;
+    
+    //guarded by this
+    private final Map<BatchEndpoint, Batch> waiting =
+            new EnumMap<BatchEndpoint, Batch>(BatchEndpoint.class);
+    
+    /**
+     * Creates a {@code BatchCoalescer} that holds lookups for 10
+     * milliseconds before sending them.
+     * 
+     * @param client    The client to send the combined requests with.
+     * @throws  NullPointerException if client is null.
+     */
+    public BatchCoalescer(LolClient client) {
+        this(client, 10, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Creates a {@code BatchCoalescer} that holds lookups for the given
+     * window before sending them.
+     * 
+     * @param client    The client to send the combined requests with.
+     * @param window    How long to hold lookups after the first one.
+     * @param unit      The unit of the window.
+     * @throws  NullPointerException if client is null.
+     * @throws  IllegalArgumentException if window is below 0.
+     */
+    public BatchCoalescer(LolClient client, long window, TimeUnit unit) {
+        if (client == null) {
+            throw new NullPointerException("the client cannot be null");
+        }
+        if (window < 0) {
+            throw new IllegalArgumentException("window cannot be negative");
+        }
+        this.client = client;
+        this.window = unit.toNanos(window);
+        timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "batch coalescer thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setKeepAliveTime(1, TimeUnit.MINUTES);
+        timer.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * Looks up a single id with an endpoint.
+     * 
+     * @param endpoint  The endpoint to look the id up with.
+     * @param id        The id to look up.
+     * @return          A future completed with the id's data.
+     */
+    public CompletableFuture<Response> submit(BatchEndpoint endpoint, int id) {
+        return submit(endpoint, String.valueOf(id));
+    }
+    
+    /**
+     * Looks up a single id or name with an endpoint. Numeric ids are sent as
+     * the number they parse to, so ids like "7" and "007" are looked up once.
+     * 
+     * @param endpoint  The endpoint to look the id up with.
+     * @param id        The id or name to look up.
+     * @return          A future completed with the id's data.
+     * @throws  IllegalArgumentException if the endpoint takes numeric ids and
+     *          id is not a number.
+     */
+    public CompletableFuture<Response> submit(BatchEndpoint endpoint,
+            String id) {
+        if (endpoint.NUMERIC) {
+            try {
+                //the response keys the id by its number
+                id = String.valueOf(Integer.parseInt(id));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(endpoint + " takes numeric "
+                        + "ids");
+            }
+        }
+        CompletableFuture<Response> future = new CompletableFuture<Response>();
+        Batch full = null;
+        synchronized (this) {
+            Batch batch = waiting.get(endpoint);
+            if (batch == null) {
+                batch = new Batch(endpoint);
+                waiting.put(endpoint, batch);
+                Batch scheduled = batch;
+                timer.schedule(() -> flush(scheduled), window,
+                        TimeUnit.NANOSECONDS);
+            }
+            batch.add(endpoint.key(id), id, future);
+            if (batch.size() == endpoint.MAX_IDS) {
+                full = batch;
+                waiting.remove(endpoint);
+            }
+        }
+        if (full != null) send(full);
+        return future;
+    }
+    
+    /**
+     * Sends every lookup waiting right now without waiting for the rest of
+     * their window.
+     */
+    public void flush() {
+        List<Batch> batches;
+        synchronized (this) {
+            batches = new ArrayList<Batch>(waiting.values());
+            waiting.clear();
+        }
+        for (Batch batch : batches) {
+            send(batch);
+        }
+    }
+    
+    /*
+     * Sends a batch when its window is up, unless it was already sent for
+     * being full or by flush().
+     */
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (waiting.get(batch.endpoint) != batch) return;
+            waiting.remove(batch.endpoint);
+        }
+        send(batch);
+    }
+    
+    private void send(Batch batch) {
+        try {
+            client.makeRequestAsync(batch.endpoint.request(client,
+                    batch.ids.toArray(new String[0])))
+                    .whenComplete((response, error) -> {
+                        if (error != null) batch.fail(error);
+                        else batch.complete(response);
+                    });
+        } catch (RuntimeException e) {
+            batch.fail(e);
+        }
+    }
+    
+    /*
+     * The lookups waiting to be sent in one request, keyed the way the
+     * response keys them.
+     */
+    private static final class Batch {
+        
+        final BatchEndpoint endpoint;
+        final Map<String, List<CompletableFuture<Response>>> futures =
+                new LinkedHashMap<String, List<CompletableFuture<Response>>>();
+        final List<String> ids = new ArrayList<String>();
+        
+        Batch(BatchEndpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+        
+        void add(String key, String id, CompletableFuture<Response> future) {
+            List<CompletableFuture<Response>> waiting = futures.get(key);
+            if (waiting == null) {
+                waiting = new ArrayList<CompletableFuture<Response>>();
+                futures.put(key, waiting);
+                ids.add(id);
+            }
+            waiting.add(future);
+        }
+        
+        int size() {
+            return futures.size();
+        }
+        
+        void complete(Response response) {
+            if (response.status != HTTPstatus.SUCCESSFUL) {
+                for (List<CompletableFuture<Response>> waiting
+                        : futures.values()) {
+                    for (CompletableFuture<Response> future : waiting) {
+                        future.complete(response);
+                    }
+                }
+                return;
+            }
+            Map<String, ByteBuffer> found;
+            try {
+                found = JsonFields.split(response.bytes());
+            } catch (IllegalArgumentException e) {
+                fail(e);
+                return;
+            }
+            for (Map.Entry<String, List<CompletableFuture<Response>>> entry
+                    : futures.entrySet()) {
+                Response part = split(response, entry.getKey(),
+                        found.get(entry.getKey()));
+                for (CompletableFuture<Response> future : entry.getValue()) {
+                    future.complete(part);
+                }
+            }
+        }
+        
+        void fail(Throwable error) {
+            for (List<CompletableFuture<Response>> waiting : futures.values()) {
+                for (CompletableFuture<Response> future : waiting) {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+        
+        private static Response split(Response response, String key,
+                ByteBuffer value) {
+            if (value == null) {
+                HTTPstatus missing = HTTPstatus.DATA_NOT_FOUND;
+                return new Response(response.url, missing.ERROR, missing.CODE,
+                        response.headers(), response.firstByteNanos,
+                        response.totalNanos, response.requestType);
+            }
+            return new Response(response.url, JsonFields.join(key, value),
+                    response.code, response.headers(), response.firstByteNanos,
+                    response.totalNanos, response.requestType);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,118 @@
+package riotapiwrapper.util;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.League;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Summoner;
+import riotapiwrapper.request.Team;
+
+/**
+ * The endpoints that take a list of ids and answer with a JSON object keyed by
+ * those ids, which a {@code BatchCoalescer} can combine lookups for.
+ * 
+ * @see     BatchCoalescer
+ */
+public enum BatchEndpoint {
+    
+    /**
+     * {@code Summoner.byIds()}, up to 40 summoner ids.
+     */
+    SUMMONER_BY_ID(40, true) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return Summoner.byIds(client, toInts(ids));
+        }
+    },
+    
+    /**
+     * {@code Summoner.byName()}, up to 40 summoner names. The response is
+     * keyed by each name in lower case without spaces.
+     */
+    SUMMONER_BY_NAME(40, false) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return Summoner.byName(client, ids);
+        }
+        
+        @Override
+        String key(String name) {
+            return Summoner.standardize(name);
+        }
+    },
+    
+    /**
+     * {@code League.bySummoner()}, up to 10 summoner ids.
+     */
+    LEAGUE_BY_SUMMONER(10, true) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return League.bySummoner(client, toInts(ids));
+        }
+    },
+    
+    /**
+     * {@code League.entriesBySummoner()}, up to 10 summoner ids.
+     */
+    LEAGUE_ENTRIES_BY_SUMMONER(10, true) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return League.entriesBySummoner(client, toInts(ids));
+        }
+    },
+    
+    /**
+     * {@code Team.bySummonerId()}, up to 10 summoner ids.
+     */
+    TEAM_BY_SUMMONER(10, true) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return Team.bySummonerId(client, toInts(ids));
+        }
+    },
+    
+    /**
+     * {@code Team.byTeamId()}, up to 10 team ids.
+     */
+    TEAM_BY_ID(10, false) {
+        @Override
+        Request request(LolClient client, String[] ids) {
+            return Team.byTeamId(client, ids);
+        }
+    };
+    
+    /**
+     * The most ids the endpoint takes in one request.
+     */
+    public final int MAX_IDS;
+    
+    /**
+     * Whether the endpoint's ids are numbers.
+     */
+    public final boolean NUMERIC;
+    
+    private BatchEndpoint(int maxIds, boolean numeric) {
+        this.MAX_IDS = maxIds;
+        this.NUMERIC = numeric;
+    }
+    
+    /*
+     * Builds the request for a batch of at most MAX_IDS different ids.
+     */
+    abstract Request request(LolClient client, String[] ids);
+    
+    /*
+     * The name the response gives the field for an id.
+     */
+    String key(String id) {
+        return id;
+    }
+    
+    private static int[] toInts(String[] ids) {
+        int[] values = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = Integer.parseInt(ids[i]);
+        }
+        return values;
+    }
+    
+}
@@ -1,9 +1,6 @@
 package riotapiwrapper.util;
 
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import riotapiwrapper.request.Request;
 
@@ -12,16 +9,36 @@ import riotapiwrapper.request.Request;
  * use their own. Keeps any back logged {@code Request}s in a 
  * {@code RequestQueue} until the rate limit opens up, then it sends the next
  * in queue.
+ * <p>
+ * The queue is worked by a single dispatcher thread which is parked until the
+ * exact time the next permit frees up, so back logged requests go out at the
+ * rate the limits allow. The dispatcher only takes the permits, and each
+ * queued request is sent on the I/O executor of the client it was built
+ * with, so a slow response never holds back the requests behind it. Each
+ * throttle has its own dispatcher thread, named with a number unique to the
+ * throttle, which is released after a minute without work.
+ * <p>
+ * A request that fails without a response from the API server is still
+ * given to its handler, as a {@code Response} with a code of 0.
+ * <p>
+ * A {@code DefaultThrottle} is safe to use from any number of threads at once.
+ * The queue is lock free and every permit is taken atomically across all of
+ * the limits, so concurrent callers can neither lose a request nor send more
+ * than the limits allow.
+ * <p>
+ * Subclasses can change what happens when a request is sent by overriding
+ * {@code send()}, and can hold back the whole queue with {@code pause()} and
+ * put a request back at its head with {@code requeueFirst()}.
  * 
  * @author Christopher McFall
  *
  */
 public class DefaultThrottle implements RequestArbiter {
     
-    private LinkedList<RequestHandlerPair> requestQueue;
-    private Collection<RateLimit> rateLimits;
+    private final RequestQueue<Boolean> requestQueue;
+    private final RateLimiter limiter;
     
-    private boolean workingQueue = false;
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
     
     /**
      * Creates a {@code DefaultThrottle} with the LoL API developer rate limits,
@@ -32,7 +49,7 @@ public class DefaultThrottle implements RequestArbiter {
      * @throws  NullPointerException if handler is null.
      */
     public DefaultThrottle() {
-        requestQueue = new LinkedList<RequestHandlerPair>();
+        this(10, 10, 500, 600);
     }
     
     
@@ -52,24 +69,57 @@ public class DefaultThrottle implements RequestArbiter {
      * @throws  IllegalArgumentException if maxSize, N1, T1, N2 or T2 are < 0.
      */
     public DefaultThrottle(int N1, int T1, int N2, int T2) {
-        requestQueue = new LinkedList<RequestHandlerPair>();
+        this(new RateLimiter());
         addLimit(N1, T1);
         if (N2 != 0 || T2 != 0) addLimit(N2, T2);
     }
     
+    /**
+     * Creates a {@code DefaultThrottle} that takes its permits from the given
+     * {@code RateLimiter}, keeping whatever limits it already has.
+     * 
+     * @param limiter   The {@code RateLimiter} to take permits from.
+     * @throws  NullPointerException if limiter is null.
+     */
+    public DefaultThrottle(RateLimiter limiter) {
+        if (limiter == null) {
+            throw new NullPointerException("the limiter cannot be null");
+        }
+        this.limiter = limiter;
+        requestQueue = new RequestQueue<Boolean>("queue worker thread") {
+            
+            @Override
+            long nanosUntilPermit() {
+                return Math.max(limiter.nanosUntilPermit(),
+                        nanosUntilResumed());
+            }
+            
+            @Override
+            Boolean acquire() {
+                return limiter.tryAcquire() ? Boolean.TRUE : null;
+            }
+            
+            @Override
+            void send(Request request, ResponseHandler handler,
+                    Boolean permit) {
+                DefaultThrottle.this.send(request, handler);
+            }
+            
+        };
+    }
+    
     @Override
     public void arbitrate(Request request, ResponseHandler handler) {
         if (!request.isRateLimited()) {
-            handler.operate(request.send());
+            request.send(handler);
             return;
         }
-        if (isAtLimit()) {
-            requestQueue.add(new RequestHandlerPair(request, handler));
-            workQueue();
+        if (!requestQueue.isEmpty() || nanosUntilResumed() > 0 
+                || !limiter.tryAcquire()) {
+            requestQueue.add(request, handler);
             return;
         }
-        handler.operate(request.send());
-        addToLimits();
+        send(request, handler);
     }
     
     @Override
@@ -79,97 +129,69 @@ public class DefaultThrottle implements RequestArbiter {
     
     @Override
     public boolean isOpen() {
-        for (RateLimit limit : rateLimits) {
-            if (limit.isFull()) {
-                return false;
-            }
-        }
-        return true;
+        return limiter.isOpen();
     }
     
     @Override
     public void addLimit(int N, int T) {
-        rateLimits.add(new RateLimit(N, T));
+        limiter.addLimit(N, T);
     }
     
     @Override
     public int numLimits() {
-        return rateLimits.size();
+        return limiter.numLimits();
     }
     
-    private void sendNextInQueue() {
-        if (requestQueue.isEmpty()) {
-            throw new NullPointerException("the queue is empty");
-        }
-        RequestHandlerPair pair = requestQueue.remove();
-        send(pair);
-    }
-    
-    /*
-     * Determines if the queue is going to be where further requests will be
-     * sent from.
+    /**
+     * Sends a request that has been given a permit and passes the response on
+     * to its handler. Called either from the thread that arbitrated the
+     * request, or on the I/O executor of the request's client for queued
+     * requests.
+     * 
+     * @param request   The request to send.
+     * @param handler   The handler for the request's response.
      */
-    private void workQueue() {
-        //makes sure the queue isn't being worked more than once.
-        if (workingQueue == true) return;
-        if (requestQueue.isEmpty()) {
-            return;
-        }
-        workingQueue = true;
-        Timer timer = new Timer("queue worker thread", true);
-        /*
-         * Sets a timer to check to see if a request can be sent every 200 ms.
-         * 
-         * When the queue is emptied, sets working queue to false until it is
-         * required for to hold requests again.
-         */
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (requestQueue.isEmpty()) {
-                    timer.cancel();
-                    workingQueue = false;
-                } else if (isOpen()) {
-                    sendNextInQueue();
-                }
-            }
-        }, 0, 200);
+    protected void send(Request request, ResponseHandler handler) {
+        request.send(handler);
     }
     
-    private boolean isAtLimit() {
-        if (!requestQueue.isEmpty()) {
-            return true;
-        }
-        if (!isOpen()) {
-            return true;
-        }
-        return false;
+    /**
+     * Puts a request back at the head of the queue, so it is the next to be
+     * sent once a permit is available.
+     * 
+     * @param request   The request to send again.
+     * @param handler   The handler for the request's response.
+     */
+    protected final void requeueFirst(Request request, 
+            ResponseHandler handler) {
+        requestQueue.addFirst(request, handler);
     }
     
-    private void addToLimits() {
-        for (RateLimit limit : rateLimits) {
-            limit.add();
-        }
+    /**
+     * Holds back every request for at least the given time, even when the
+     * limits would allow them to be sent. A longer pause already in place is
+     * kept.
+     * 
+     * @param nanos     How long to pause the queue, in nanoseconds.
+     */
+    protected final void pause(long nanos) {
+        long until = System.nanoTime() + nanos;
+        pausedUntil.updateAndGet(current -> 
+                until - current > 0 ? until : current);
     }
     
-    private void send(RequestHandlerPair pair) {
-        pair.handler.operate(pair.request.send());
+    /**
+     * Returns the {@code RateLimiter} holding this throttle's limits.
+     * 
+     * @return  The {@code RateLimiter} holding this throttle's limits.
+     */
+    protected final RateLimiter limiter() {
+        return limiter;
     }
     
-    /*
-     * Simple class for keeping a request and it's handler paired through the
-     * queue.
-     */
-    private class RequestHandlerPair {
-        
-        public final Request request;
-        public final ResponseHandler handler;
-        
-        public RequestHandlerPair(Request r, ResponseHandler h) {
-            this.request = r;
-            this.handler = h;
-        }
-        
+    private long nanosUntilResumed() {
+        long wait = pausedUntil.get() - System.nanoTime();
+        return wait > 0 ? wait : 0;
     }
     
 }
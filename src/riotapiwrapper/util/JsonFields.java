@@ -0,0 +1,63 @@
+package riotapiwrapper.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Splits a JSON object into its top level fields without parsing their
+ * values, which are kept as the raw JSON bytes they were sent as. Used to
+ * hand each part of a batched response back to the caller that asked for it.
+ * 
+ * The values are stepped over with a JsonReader, which only looks at the
+ * structure needed to find where each one ends.
+ */
+final class JsonFields {
+    
+    private JsonFields() { }
+    
+    /*
+     * Returns the top level fields of the object in order, from name to raw
+     * value. Throws IllegalArgumentException if json is not an object.
+     */
+    static Map<String, ByteBuffer> split(ByteBuffer json) {
+        JsonReader reader = new JsonReader(json);
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            throw new IllegalArgumentException("not a JSON object");
+        }
+        Map<String, ByteBuffer> fields =
+                new LinkedHashMap<String, ByteBuffer>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            fields.put(reader.nextName(), reader.nextRaw());
+        }
+        reader.endObject();
+        return fields;
+    }
+    
+    /*
+     * Wraps a single field back up as an object of its own.
+     */
+    static ByteBuffer join(String name, ByteBuffer value) {
+        byte[] head = ("{" + quote(name) + ":")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer joined = ByteBuffer.allocate(head.length
+                + value.remaining() + 1);
+        joined.put(head).put(value.duplicate()).put((byte) '}');
+        joined.flip();
+        return joined;
+    }
+    
+    private static String quote(String name) {
+        StringBuilder quoted = new StringBuilder(name.length() + 2);
+        quoted.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\') quoted.append('\\');
+            quoted.append(c);
+        }
+        return quoted.append('"').toString();
+    }
+    
+}
@@ -0,0 +1,627 @@
+package riotapiwrapper.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads JSON one token at a time, straight from its UTF-8 bytes, without
+ * building a tree of the whole document.
+ * <p>
+ * The caller pulls each token with the method for the type it expects, like
+ * {@code beginObject()}, {@code nextName()} and {@code nextLong()}, and skips
+ * values it does not need with {@code skipValue()}, which steps over them
+ * byte by byte without decoding them. {@code nextRaw()} returns the bytes of
+ * a value without reading it, so it can be read later or by someone else.
+ * <p>
+ * A {@code JsonReader} is not safe to use from several threads at once.
+ * Malformed JSON throws an {@code IllegalArgumentException}, and asking for a
+ * token of the wrong type throws an {@code IllegalStateException}.
+ */
+public final class JsonReader {
+    
+    /**
+     * The types of tokens read from a JSON document.
+     */
+    public enum Token {
+        
+        /**
+         * The start of an object, read with {@code beginObject()}.
+         */
+        BEGIN_OBJECT,
+        
+        /**
+         * The end of an object, read with {@code endObject()}.
+         */
+        END_OBJECT,
+        
+        /**
+         * The start of an array, read with {@code beginArray()}.
+         */
+        BEGIN_ARRAY,
+        
+        /**
+         * The end of an array, read with {@code endArray()}.
+         */
+        END_ARRAY,
+        
+        /**
+         * The name of an object's field, read with {@code nextName()}.
+         */
+        NAME,
+        
+        /**
+         * A string, read with {@code nextString()}.
+         */
+        STRING,
+        
+        /**
+         * A number, read with {@code nextLong()}, {@code nextInt()} or
+         * {@code nextDouble()}.
+         */
+        NUMBER,
+        
+        /**
+         * true or false, read with {@code nextBoolean()}.
+         */
+        BOOLEAN,
+        
+        /**
+         * null, read with {@code nextNull()}.
+         */
+        NULL,
+        
+        /**
+         * The end of the document.
+         */
+        END_DOCUMENT;
+        
+    }
+    
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+    
+    private static final int MAX_SCRATCH = 8192;
+    
+    private final ByteBuffer bytes;
+    private final int limit;
+    private int pos;
+    
+    //a second view of the bytes for copying strings out in bulk, since
+    //read only buffers, like every Response body, have no accessible array
+    private final ByteBuffer view;
+    private byte[] scratch;
+    
+    private int[] scopes = new int[32];
+    private int depth = 1;
+    
+    //the token peeked but not read yet, and where it starts
+    private Token peeked;
+    private int tokenStart;
+    
+    /**
+     * Creates a {@code JsonReader} for the bytes of a buffer from its
+     * position to its limit. The buffer's position is not changed.
+     * 
+     * @param bytes The UTF-8 bytes of the JSON document.
+     */
+    public JsonReader(ByteBuffer bytes) {
+        this.bytes = bytes.duplicate();
+        this.view = bytes.duplicate();
+        this.pos = bytes.position();
+        this.limit = bytes.limit();
+        scopes[0] = EMPTY_DOCUMENT;
+    }
+    
+    /**
+     * Returns the type of the next token without reading it.
+     * 
+     * @return  The type of the next token.
+     * @throws  IllegalArgumentException if the JSON is malformed.
+     */
+    public Token peek() {
+        if (peeked != null) return peeked;
+        int scope = scopes[depth - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonSpace();
+                if (c == ']') return token(Token.END_ARRAY);
+                return value(c);
+            case NONEMPTY_ARRAY:
+                c = nextNonSpace();
+                if (c == ']') return token(Token.END_ARRAY);
+                if (c != ',') throw malformed();
+                return value(nextNonSpace());
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonSpace();
+                if (c == '}') return token(Token.END_OBJECT);
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') throw malformed();
+                    c = nextNonSpace();
+                }
+                if (c != '"') throw malformed();
+                scopes[depth - 1] = DANGLING_NAME;
+                return token(Token.NAME);
+            case DANGLING_NAME:
+                if (nextNonSpace() != ':') throw malformed();
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                return value(nextNonSpace());
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                return value(nextNonSpace());
+            default:
+                skipSpace();
+                if (pos < limit) throw malformed();
+                tokenStart = pos;
+                peeked = Token.END_DOCUMENT;
+                return peeked;
+        }
+    }
+    
+    /**
+     * Returns true if the current object or array has another element.
+     * 
+     * @return  true if there is another element.
+     */
+    public boolean hasNext() {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY
+                && token != Token.END_DOCUMENT;
+    }
+    
+    /**
+     * Reads the start of an object.
+     */
+    public void beginObject() {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+    
+    /**
+     * Reads the end of an object.
+     */
+    public void endObject() {
+        expect(Token.END_OBJECT);
+        --depth;
+    }
+    
+    /**
+     * Reads the start of an array.
+     */
+    public void beginArray() {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+    
+    /**
+     * Reads the end of an array.
+     */
+    public void endArray() {
+        expect(Token.END_ARRAY);
+        --depth;
+    }
+    
+    /**
+     * Reads the name of an object's next field.
+     * 
+     * @return  The name of the field.
+     */
+    public String nextName() {
+        expect(Token.NAME);
+        return readString();
+    }
+    
+    /**
+     * Reads the name of an object's next field and returns where it is in
+     * the given names, or -1 if it is not one of them. Names are compared as
+     * UTF-8 bytes, so the name read is not decoded unless it holds escapes.
+     * 
+     * @param names The UTF-8 bytes of the names to look for.
+     * @return      The index of the name read in names, or -1.
+     */
+    public int nextName(byte[][] names) {
+        expect(Token.NAME);
+        int start = pos;
+        while (true) {
+            if (pos >= limit) throw malformed();
+            byte c = bytes.get(pos);
+            if (c == '"') break;
+            if (c == '\\') {
+                //escapes are rare enough to decode the name instead
+                pos = start;
+                byte[] name = readString().getBytes(StandardCharsets.UTF_8);
+                for (int i = 0; i < names.length; i++) {
+                    if (Arrays.equals(name, names[i])) return i;
+                }
+                return -1;
+            }
+            ++pos;
+        }
+        int end = pos++;
+        search:
+        for (int i = 0; i < names.length; i++) {
+            byte[] name = names[i];
+            if (name.length != end - start) continue;
+            for (int j = 0; j < name.length; j++) {
+                if (bytes.get(start + j) != name[j]) continue search;
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    /**
+     * Reads a string. Numbers are read as the text they were written as.
+     * 
+     * @return  The string.
+     */
+    public String nextString() {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            peeked = null;
+            int start = tokenStart;
+            skipLiteral();
+            return ascii(start, pos);
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+    
+    /**
+     * Reads a whole number. Numbers written as strings are read as well.
+     * 
+     * @return  The number.
+     * @throws  NumberFormatException if the value is not a whole number that
+     *          fits in a long.
+     */
+    public long nextLong() {
+        String text = null;
+        if (peek() == Token.STRING) {
+            text = nextString();
+        } else {
+            expect(Token.NUMBER);
+            int start = tokenStart;
+            skipLiteral();
+            long value = 0;
+            boolean negative = bytes.get(start) == '-';
+            int i = negative ? start + 1 : start;
+            //fast path for up to 18 digits, which cannot overflow
+            if (pos > i && pos - i <= 18) {
+                for (; i < pos; i++) {
+                    int digit = bytes.get(i) - '0';
+                    if (digit < 0 || digit > 9) break;
+                    value = value * 10 + digit;
+                }
+                if (i == pos) return negative ? -value : value;
+            }
+            text = ascii(start, pos);
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            double value = Double.parseDouble(text);
+            //casting clamps to Long.MAX_VALUE, which is 2^63 once a double
+            if (value != (long) value || value >= 0x1p63) {
+                throw new NumberFormatException("not a whole number that "
+                        + "fits in a long: " + text);
+            }
+            return (long) value;
+        }
+    }
+    
+    /**
+     * Reads a whole number that fits in an int.
+     * 
+     * @return  The number.
+     * @throws  NumberFormatException if the value is not a whole number that
+     *          fits in an int.
+     */
+    public int nextInt() {
+        long value = nextLong();
+        if (value != (int) value) {
+            throw new NumberFormatException(value + " does not fit in an int");
+        }
+        return (int) value;
+    }
+    
+    /**
+     * Reads a number.
+     * 
+     * @return  The number.
+     */
+    public double nextDouble() {
+        return Double.parseDouble(nextString());
+    }
+    
+    /**
+     * Reads true or false.
+     * 
+     * @return  The value read.
+     */
+    public boolean nextBoolean() {
+        expect(Token.BOOLEAN);
+        boolean value = bytes.get(tokenStart) == 't';
+        expectLiteral(value ? "true" : "false");
+        return value;
+    }
+    
+    /**
+     * Reads null.
+     */
+    public void nextNull() {
+        expect(Token.NULL);
+        expectLiteral("null");
+    }
+    
+    /**
+     * Skips the next value, with everything in it, without decoding it. If
+     * the next token is a field's name, the name and its value are skipped.
+     */
+    public void skipValue() {
+        Token token = peek();
+        peeked = null;
+        switch (token) {
+            case NAME:
+                skipString();
+                skipValue();
+                return;
+            case STRING:
+                skipString();
+                return;
+            case NUMBER:
+            case BOOLEAN:
+            case NULL:
+                skipLiteral();
+                return;
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                skipNested();
+                return;
+            default:
+                peeked = token;
+                throw new IllegalStateException("expected a value but was "
+                        + token + " at " + tokenStart);
+        }
+    }
+    
+    /**
+     * Returns the bytes of the next value without reading them, and skips
+     * it. The returned buffer shares the reader's bytes.
+     * 
+     * @return  A read only buffer of the next value's bytes.
+     */
+    public ByteBuffer nextRaw() {
+        Token token = peek();
+        if (token == Token.NAME) {
+            throw new IllegalStateException("expected a value but was NAME at "
+                    + tokenStart);
+        }
+        int start = tokenStart;
+        skipValue();
+        ByteBuffer raw = bytes.duplicate();
+        raw.limit(pos).position(start);
+        return raw.slice().asReadOnlyBuffer();
+    }
+    
+    /**
+     * Returns the position in the buffer of the next token, or of the end of
+     * the last token read.
+     * 
+     * @return  The position in the buffer.
+     */
+    public int position() {
+        return peeked == null ? pos : tokenStart;
+    }
+    
+    private Token token(Token token) {
+        tokenStart = pos - 1;
+        peeked = token;
+        return token;
+    }
+    
+    private Token value(int c) {
+        switch (c) {
+            case '{':
+                return token(Token.BEGIN_OBJECT);
+            case '[':
+                return token(Token.BEGIN_ARRAY);
+            case '"':
+                return token(Token.STRING);
+            case 't':
+            case 'f':
+                return token(Token.BOOLEAN);
+            case 'n':
+                return token(Token.NULL);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return token(Token.NUMBER);
+                }
+                throw malformed();
+        }
+    }
+    
+    private void expect(Token token) {
+        Token next = peek();
+        if (next != token) {
+            throw new IllegalStateException("expected " + token + " but was "
+                    + next + " at " + tokenStart);
+        }
+        peeked = null;
+    }
+    
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(scopes, 0, grown, 0, depth);
+            scopes = grown;
+        }
+        scopes[depth++] = scope;
+    }
+    
+    private int nextNonSpace() {
+        skipSpace();
+        if (pos >= limit) throw malformed();
+        return bytes.get(pos++);
+    }
+    
+    private void skipSpace() {
+        while (pos < limit) {
+            byte c = bytes.get(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return;
+            ++pos;
+        }
+    }
+    
+    /*
+     * Reads from just after a string's opening quote to just after its
+     * closing quote.
+     */
+    private String readString() {
+        int start = pos;
+        StringBuilder escaped = null;
+        while (true) {
+            if (pos >= limit) throw malformed();
+            byte c = bytes.get(pos);
+            if (c == '"') break;
+            if (c != '\\') {
+                ++pos;
+                continue;
+            }
+            if (escaped == null) escaped = new StringBuilder();
+            escaped.append(utf8(start, pos));
+            ++pos;
+            escaped.append(escape());
+            start = pos;
+        }
+        String tail = utf8(start, pos);
+        ++pos;
+        return escaped == null ? tail : escaped.append(tail).toString();
+    }
+    
+    private char escape() {
+        if (pos >= limit) throw malformed();
+        byte c = bytes.get(pos++);
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (pos + 4 > limit) throw malformed();
+                int value = 0;
+                for (int end = pos + 4; pos < end; pos++) {
+                    int digit = Character.digit(bytes.get(pos), 16);
+                    if (digit < 0) throw malformed();
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            default:
+                return (char) c;
+        }
+    }
+    
+    private void skipString() {
+        while (pos < limit) {
+            byte c = bytes.get(pos++);
+            if (c == '"') return;
+            if (c == '\\') ++pos;
+        }
+        throw malformed();
+    }
+    
+    private void skipLiteral() {
+        while (pos < limit) {
+            byte c = bytes.get(pos);
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n'
+                    || c == '\r' || c == '\t' || c == ':') {
+                return;
+            }
+            ++pos;
+        }
+    }
+    
+    /*
+     * Skips from just after an opening bracket to just after the bracket
+     * that closes it. This is where most of a large document is spent, so
+     * it works on locals and steps over strings itself.
+     */
+    private void skipNested() {
+        ByteBuffer bytes = this.bytes;
+        int limit = this.limit;
+        int p = pos;
+        int nesting = 1;
+        while (p < limit) {
+            byte c = bytes.get(p++);
+            if (c == '"') {
+                while (p < limit && (c = bytes.get(p++)) != '"') {
+                    if (c == '\\') ++p;
+                }
+            } else if (c == '{' || c == '[') {
+                ++nesting;
+            } else if ((c == '}' || c == ']') && --nesting == 0) {
+                pos = p;
+                return;
+            }
+        }
+        pos = p;
+        throw malformed();
+    }
+    
+    private void expectLiteral(String literal) {
+        int start = tokenStart;
+        skipLiteral();
+        if (pos - start != literal.length()) throw malformed();
+        for (int i = 0; i < literal.length(); i++) {
+            if (bytes.get(start + i) != literal.charAt(i)) throw malformed();
+        }
+    }
+    
+    /*
+     * Decodes straight from the array when the buffer has one, and otherwise
+     * copies the bytes out in bulk first, into an array that is kept for the
+     * next string unless it is unusually long.
+     */
+    private String utf8(int start, int end) {
+        if (start == end) return "";
+        int length = end - start;
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + start,
+                    length, StandardCharsets.UTF_8);
+        }
+        byte[] copy = scratch;
+        if (copy == null || copy.length < length) {
+            copy = new byte[Math.max(length, 64)];
+            if (length <= MAX_SCRATCH) scratch = copy;
+        }
+        view.limit(end).position(start);
+        view.get(copy, 0, length);
+        return new String(copy, 0, length, StandardCharsets.UTF_8);
+    }
+    
+    private String ascii(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = (char) bytes.get(i);
+        }
+        return new String(chars);
+    }
+    
+    private IllegalArgumentException malformed() {
+        return new IllegalArgumentException("malformed JSON at " + pos);
+    }
+    
+}
@@ -0,0 +1,211 @@
+package riotapiwrapper.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import riotapiwrapper.API;
+import riotapiwrapper.request.Request;
+
+/**
+ * A {@code RequestArbiter} that spreads requests over several API keys, each
+ * with its own rate limit windows.
+ * <p>
+ * Requests are not tied to a key when they are built. Each one is given a key
+ * as it is sent: of the keys with a permit free, the one that has used the
+ * least of its limits. When every key is at its limits, requests wait in a
+ * single queue that is worked the same way as a {@code DefaultThrottle}'s,
+ * by a dispatcher thread parked until the earliest time any of the keys frees
+ * up. The pool can send as many requests as all of its keys' limits added
+ * together.
+ * <p>
+ * The pool is given to the {@code LolClient} along with any one of its keys,
+ * which is used for requests sent without going through the pool, like
+ * {@code Request.send()}. Limits added to a {@code KeyPool} apply to every
+ * key.
+ * 
+ * @see     DefaultThrottle
+ * @see     Request#send(String)
+ */
+public class KeyPool implements RequestArbiter {
+    
+    private final String[] keys;
+    private final RateLimiter[] limiters;
+    
+    private final RequestQueue<String> requestQueue =
+            new RequestQueue<String>("key pool worker thread") {
+        
+        @Override
+        long nanosUntilPermit() {
+            return KeyPool.this.nanosUntilPermit();
+        }
+        
+        @Override
+        String acquire() {
+            int key = KeyPool.this.acquire();
+            return key < 0 ? null : keys[key];
+        }
+        
+        @Override
+        void send(Request request, ResponseHandler handler, String key) {
+            KeyPool.this.send(request, handler, key);
+        }
+        
+    };
+    
+    /**
+     * Creates a {@code KeyPool} with the LoL API developer rate limits for
+     * each key, which are 10 requests/10 seconds and 500 requests/10
+     * minutes(600 seconds).
+     * 
+     * @param keys      The LoL API keys to send requests with.
+     * @throws  IllegalArgumentException if no keys are given, a key is given
+     *          twice or a key is not correctly formatted.
+     */
+    public KeyPool(String... keys) {
+        this(10, 10, 500, 600, keys);
+    }
+    
+    /**
+     * Creates a {@code KeyPool} with the specified rate limits for each key.
+     * If either N2 or T2 are 0, a second rate limit will not be used.
+     * 
+     * @param N1        Number of requests per time for the first rate limit.
+     * @param T1        Time limit for the first rate limit.
+     * @param N2        Number of request per time for the second rate limit.
+     *                  If 0, a second rate limit will not be used.
+     * @param T2        Time limit for the second rate limit. if 0, a second
+     *                  rate limit will not be used.
+     * @param keys      The LoL API keys to send requests with.
+     * @throws  IllegalArgumentException if N1, T1, N2 or T2 are < 0, if no keys
+     *          are given, a key is given twice or a key is not correctly
+     *          formatted.
+     */
+    public KeyPool(int N1, int T1, int N2, int T2, String... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("at least one key is needed");
+        }
+        Set<String> seen = new HashSet<String>();
+        for (String key : keys) {
+            API.checkKey(key);
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException("Key is given twice.");
+            }
+        }
+        this.keys = keys.clone();
+        limiters = new RateLimiter[keys.length];
+        for (int i = 0; i < limiters.length; i++) {
+            limiters[i] = new RateLimiter();
+        }
+        addLimit(N1, T1);
+        if (N2 != 0 || T2 != 0) addLimit(N2, T2);
+    }
+    
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        if (!request.isRateLimited()) {
+            request.send(handler);
+            return;
+        }
+        if (requestQueue.isEmpty()) {
+            int key = acquire();
+            if (key >= 0) {
+                send(request, handler, keys[key]);
+                return;
+            }
+        }
+        requestQueue.add(request, handler);
+    }
+    
+    /**
+     * Returns if a request can be sent with any of the keys without violating
+     * their rate limits.
+     * 
+     * @return  true if a request can be sent with one of the keys.
+     */
+    @Override
+    public boolean isOpen() {
+        return nanosUntilPermit() == 0;
+    }
+    
+    @Override
+    public int backlog() {
+        return requestQueue.size();
+    }
+    
+    /**
+     * Adds a limit to every key in the pool.
+     */
+    @Override
+    public void addLimit(int N, int T) {
+        if (N < 1 || T < 1) {
+            throw new IllegalArgumentException("N and T cannot be negative");
+        }
+        for (RateLimiter limiter : limiters) {
+            limiter.addLimit(N, T);
+        }
+    }
+    
+    @Override
+    public int numLimits() {
+        return limiters[0].numLimits();
+    }
+    
+    /**
+     * Returns the number of keys in the pool.
+     * 
+     * @return  The number of keys in the pool.
+     */
+    public int size() {
+        return keys.length;
+    }
+    
+    /**
+     * Sends a request that has been given a permit for a key and passes the
+     * response on to its handler. Called either from the thread that
+     * arbitrated the request, or on the I/O executor of the request's client
+     * for queued requests.
+     * 
+     * @param request   The request to send.
+     * @param handler   The handler for the request's response.
+     * @param key       The key the request was given a permit for.
+     */
+    protected void send(Request request, ResponseHandler handler,
+            String key) {
+        request.send(key, handler);
+    }
+    
+    /*
+     * Takes a permit from the least loaded key that has one free, and returns
+     * that key's index, or -1 if every key is at its limits.
+     * 
+     * Another thread can take the chosen key's last permit between looking
+     * and taking it, so the other keys are tried before giving up.
+     */
+    private int acquire() {
+        int best = -1;
+        double bestLoad = Double.MAX_VALUE;
+        for (int i = 0; i < limiters.length; i++) {
+            if (!limiters[i].isOpen()) continue;
+            double load = limiters[i].load();
+            if (load < bestLoad) {
+                best = i;
+                bestLoad = load;
+            }
+        }
+        if (best < 0) return -1;
+        if (limiters[best].tryAcquire()) return best;
+        for (int i = 0; i < limiters.length; i++) {
+            if (limiters[i].tryAcquire()) return i;
+        }
+        return -1;
+    }
+    
+    private long nanosUntilPermit() {
+        long wait = Long.MAX_VALUE;
+        for (RateLimiter limiter : limiters) {
+            wait = Math.min(wait, limiter.nanosUntilPermit());
+        }
+        return wait;
+    }
+    
+}
@@ -0,0 +1,520 @@
+package riotapiwrapper.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import riotapiwrapper.Regions;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Match;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code RequestArbiter} that keeps every match it has received on disk,
+ * and answers requests for those matches from there instead of the API
+ * server, since a match never changes once it has been played.
+ * <p>
+ * Matches are stored in a directory for each region, under the directory the
+ * store is created with. Each match is appended to the end of a segment file,
+ * and a new segment is started once the last one is full. Segments are mapped
+ * into memory and never written over, so reading a match never waits on disk
+ * or on another thread writing one. Where each match is kept is looked up in
+ * an index held outside the Java heap, which is rebuilt from the segments the
+ * first time a region's matches are used, so millions of matches can be kept
+ * without adding to garbage collection.
+ * <p>
+ * A request for a match without its timeline is answered with the match and
+ * its timeline if only that is stored. Requests of other types, and requests
+ * for matches that are not stored, are sent through another arbiter, and
+ * matches in successful responses are stored.
+ * <p>
+ * Segments that cannot be opened, or a match that cannot be written, make
+ * {@code arbitrate()} throw an {@code UncheckedIOException}. A match that
+ * could not be written is still given to the handler first.
+ * 
+ * @see     Match
+ */
+public class MatchStore implements RequestArbiter {
+    
+    //length and key of each record
+    private static final int HEADER = 12;
+    
+    private final Path directory;
+    private final RequestArbiter arbiter;
+    private final int segmentSize;
+    
+    //guarded by itself
+    private final Map<Regions, Shard> shards =
+            new EnumMap<Regions, Shard>(Regions.class);
+    
+    /**
+     * Creates a {@code MatchStore} in the given directory, in front of the
+     * given arbiter, with segments of 256 MB. The directory is created if it
+     * does not exist.
+     * 
+     * @param directory The directory to store matches in.
+     * @param arbiter   The arbiter requests that are not answered from disk
+     *                  are sent through.
+     * @throws  NullPointerException if directory or arbiter are null.
+     * @throws  IOException if the directory could not be created.
+     */
+    public MatchStore(Path directory, RequestArbiter arbiter)
+            throws IOException {
+        this(directory, arbiter, 256 << 20);
+    }
+    
+    /**
+     * Creates a {@code MatchStore} in the given directory, in front of the
+     * given arbiter, with segments of the given size. Matches larger than a
+     * segment are not stored.
+     * 
+     * @param directory     The directory to store matches in.
+     * @param arbiter       The arbiter requests that are not answered from
+     *                      disk are sent through.
+     * @param segmentSize   The size of each segment file in bytes.
+     * @throws  NullPointerException if directory or arbiter are null.
+     * @throws  IllegalArgumentException if segmentSize is not above the
+     *          size of a record's header.
+     * @throws  IOException if the directory could not be created.
+     */
+    public MatchStore(Path directory, RequestArbiter arbiter, int segmentSize)
+            throws IOException {
+        if (directory == null || arbiter == null) {
+            throw new NullPointerException("the directory and arbiter cannot "
+                    + "be null");
+        }
+        if (segmentSize <= HEADER) {
+            throw new IllegalArgumentException("segmentSize must be above "
+                    + HEADER);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.arbiter = arbiter;
+        this.segmentSize = segmentSize;
+    }
+    
+    /**
+     * Answers a match request from disk if the match is stored, and otherwise
+     * sends it through the arbiter and stores a successful response.
+     * 
+     * @throws  UncheckedIOException if the region's segments could not be
+     *          opened, or the match could not be written.
+     */
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        if (!(request instanceof Match)) {
+            arbiter.arbitrate(request, handler);
+            return;
+        }
+        Match match = (Match) request;
+        ByteBuffer stored;
+        try {
+            stored = bytes(match.region(), match.id(),
+                    match.includesTimeline());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (stored != null) {
+            //the body is read straight from the mapped segment
+            handler.operate(new Response(request.toString(), stored,
+                    HTTPstatus.SUCCESSFUL.CODE,
+                    Collections.<String, String>emptyMap(), 0, 0,
+                    RequestType.MATCH));
+            return;
+        }
+        arbiter.arbitrate(request, response -> {
+            IOException failure = null;
+            if (response.status == HTTPstatus.SUCCESSFUL) {
+                try {
+                    put(match.region(), match.id(), match.includesTimeline(),
+                            response.bytes());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            handler.operate(response);
+            if (failure != null) throw new UncheckedIOException(failure);
+        });
+    }
+    
+    /**
+     * Returns a stored match, or null if it is not stored. If the match is
+     * asked for without its timeline but is only stored with it, it is
+     * returned with its timeline.
+     * 
+     * @param region            The region the match was played in.
+     * @param id                The id of the match.
+     * @param includeTimeline   A flag indicating if the match's timeline is
+     *                          needed.
+     * @return                  The match's data, or null.
+     * @throws  IOException if the region's segments could not be opened.
+     */
+    public String get(Regions region, int id, boolean includeTimeline)
+            throws IOException {
+        ByteBuffer data = bytes(region, id, includeTimeline);
+        return data == null ? null : StandardCharsets.UTF_8.decode(data)
+                .toString();
+    }
+    
+    /**
+     * Returns the UTF-8 bytes of a stored match without copying or decoding
+     * them, or null if it is not stored. If the match is asked for without
+     * its timeline but is only stored with it, it is returned with its
+     * timeline.
+     * 
+     * @param region            The region the match was played in.
+     * @param id                The id of the match.
+     * @param includeTimeline   A flag indicating if the match's timeline is
+     *                          needed.
+     * @return                  A read only buffer of the match's data, or
+     *                          null.
+     * @throws  IOException if the region's segments could not be opened.
+     */
+    public ByteBuffer bytes(Regions region, int id, boolean includeTimeline)
+            throws IOException {
+        Shard shard = shard(region);
+        ByteBuffer data = shard.read(key(id, includeTimeline));
+        if (data == null && !includeTimeline) {
+            data = shard.read(key(id, true));
+        }
+        return data;
+    }
+    
+    /**
+     * Stores a match, unless it is already stored.
+     * 
+     * @param region            The region the match was played in.
+     * @param id                The id of the match.
+     * @param includeTimeline   A flag indicating if the data includes the
+     *                          match's timeline.
+     * @param data              The match's data.
+     * @return                  true if the match was stored, false if it was
+     *                          already stored or is larger than a segment.
+     * @throws  IOException if a segment could not be opened or created.
+     */
+    public boolean put(Regions region, int id, boolean includeTimeline,
+            String data) throws IOException {
+        return put(region, id, includeTimeline,
+                ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    /**
+     * Stores a match from its UTF-8 bytes, unless it is already stored.
+     * 
+     * @param region            The region the match was played in.
+     * @param id                The id of the match.
+     * @param includeTimeline   A flag indicating if the data includes the
+     *                          match's timeline.
+     * @param data              The UTF-8 bytes of the match's data, from the
+     *                          buffer's position to its limit. The buffer's
+     *                          position is not changed.
+     * @return                  true if the match was stored, false if it was
+     *                          already stored or is larger than a segment.
+     * @throws  IOException if a segment could not be opened or created.
+     */
+    public boolean put(Regions region, int id, boolean includeTimeline,
+            ByteBuffer data) throws IOException {
+        return shard(region).append(key(id, includeTimeline), data);
+    }
+    
+    /**
+     * Returns the number of matches stored for a region.
+     * 
+     * @param region    The region to check.
+     * @return          The number of matches stored for the region.
+     * @throws  IOException if the region's segments could not be opened.
+     */
+    public int size(Regions region) throws IOException {
+        return shard(region).size();
+    }
+    
+    /**
+     * Writes every stored match that is still only in memory to disk.
+     * Matches stored since the last call can be lost or left corrupt if the
+     * machine crashes, though not if only the application does.
+     */
+    public void force() {
+        synchronized (shards) {
+            for (Shard shard : shards.values()) {
+                shard.force();
+            }
+        }
+    }
+    
+    /**
+     * Returns the directory matches are stored in.
+     * 
+     * @return  The directory matches are stored in.
+     */
+    public Path directory() {
+        return directory;
+    }
+    
+    /**
+     * Returns the arbiter requests that are not answered from disk are sent
+     * through.
+     * 
+     * @return  The arbiter requests are sent through.
+     */
+    public RequestArbiter arbiter() {
+        return arbiter;
+    }
+    
+    @Override
+    public int numLimits() {
+        return arbiter.numLimits();
+    }
+    
+    @Override
+    public void addLimit(int N, int T) {
+        arbiter.addLimit(N, T);
+    }
+    
+    @Override
+    public boolean isOpen() {
+        return arbiter.isOpen();
+    }
+    
+    @Override
+    public int backlog() {
+        return arbiter.backlog();
+    }
+    
+    private Shard shard(Regions region) throws IOException {
+        synchronized (shards) {
+            Shard shard = shards.get(region);
+            if (shard == null) {
+                shard = new Shard(directory.resolve(region.ABREV),
+                        segmentSize);
+                shards.put(region, shard);
+            }
+            return shard;
+        }
+    }
+    
+    private static long key(int id, boolean includeTimeline) {
+        return ((long) id << 1) | (includeTimeline ? 1 : 0);
+    }
+    
+    /*
+     * The segments and index of one region. Each record is the length of the
+     * data, the key and then the data. The length is written last, so a
+     * record the process died while writing has a length of 0 and ends the
+     * segment. The operating system writes the mapped pages back in any
+     * order, so this does not hold if the machine itself crashes before
+     * force().
+     */
+    private static final class Shard {
+        
+        private final Path folder;
+        private final int segmentSize;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        
+        //only added to, by appending threads holding this
+        private volatile MappedByteBuffer[] segments;
+        //guarded by this
+        private int tail;
+        //guarded by lock
+        private final Index index = new Index();
+        
+        Shard(Path folder, int segmentSize) throws IOException {
+            this.folder = Files.createDirectories(folder);
+            this.segmentSize = segmentSize;
+            int count = 0;
+            while (Files.exists(segment(count))) {
+                ++count;
+            }
+            segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long written = Files.size(segment(i));
+                segments[i] = map(i);
+                tail = scan(i, written);
+            }
+        }
+        
+        ByteBuffer read(long key) {
+            long position;
+            lock.readLock().lock();
+            try {
+                position = index.get(key);
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (position < 0) return null;
+            ByteBuffer segment = segments[(int) (position >>> 32)].duplicate();
+            int offset = (int) position;
+            segment.limit(offset + HEADER + segment.getInt(offset));
+            segment.position(offset + HEADER);
+            return segment.slice().asReadOnlyBuffer();
+        }
+        
+        synchronized boolean append(long key, ByteBuffer data)
+                throws IOException {
+            int length = data.remaining();
+            if (HEADER + length > segmentSize) return false;
+            lock.readLock().lock();
+            try {
+                if (index.get(key) >= 0) return false;
+            } finally {
+                lock.readLock().unlock();
+            }
+            int last = segments.length - 1;
+            if (last < 0 || tail + HEADER + length
+                    > segments[last].capacity()) {
+                ++last;
+                MappedByteBuffer[] grown =
+                        Arrays.copyOf(segments, last + 1);
+                grown[last] = map(last);
+                segments = grown;
+                tail = 0;
+            }
+            ByteBuffer segment = segments[last].duplicate();
+            segment.position(tail + HEADER);
+            segment.put(data.duplicate());
+            segment.putLong(tail + 4, key);
+            segment.putInt(tail, length);
+            lock.writeLock().lock();
+            try {
+                index.put(key, ((long) last << 32) | tail);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            tail += HEADER + length;
+            return true;
+        }
+        
+        int size() {
+            lock.readLock().lock();
+            try {
+                return index.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        
+        void force() {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+        
+        /*
+         * Adds a segment's records to the index and returns where it ends.
+         * Mapping a segment file that was cut short fills it back up with
+         * zeros, so records are only read up to the file's size before it
+         * was mapped.
+         */
+        private int scan(int number, long written) {
+            MappedByteBuffer segment = segments[number];
+            int end = (int) Math.min(segment.capacity(), written);
+            int offset = 0;
+            while (offset + HEADER <= end) {
+                int length = segment.getInt(offset);
+                if (length <= 0 || length > end - offset - HEADER) {
+                    break;
+                }
+                index.put(segment.getLong(offset + 4),
+                        ((long) number << 32) | offset);
+                offset += HEADER + length;
+            }
+            return offset;
+        }
+        
+        private MappedByteBuffer map(int number) throws IOException {
+            try (FileChannel channel = FileChannel.open(segment(number),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                long size = Math.max(segmentSize, channel.size());
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+        
+        private Path segment(int number) {
+            return folder.resolve(String.format("%05d.seg", number));
+        }
+        
+    }
+    
+    /*
+     * An open addressing hash table from key to position, kept in direct
+     * memory. Each slot is the key and then the position plus 1, with 0
+     * marking an empty slot.
+     */
+    private static final class Index {
+        
+        private static final int SLOT = 16;
+        
+        private ByteBuffer slots = ByteBuffer.allocateDirect(1024 * SLOT);
+        private int mask = 1023;
+        private int size;
+        
+        long get(long key) {
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                long position = slots.getLong(i * SLOT + 8);
+                if (position == 0) return -1;
+                if (slots.getLong(i * SLOT) == key) return position - 1;
+            }
+        }
+        
+        void put(long key, long position) {
+            if (size >= (mask + 1) / 2) grow();
+            if (insert(slots, mask, key, position + 1)) ++size;
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        private void grow() {
+            int capacity = (mask + 1) * 2;
+            if ((long) capacity * SLOT > Integer.MAX_VALUE) {
+                throw new IllegalStateException("the index is full");
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity * SLOT);
+            for (int i = 0; i <= mask; i++) {
+                long position = slots.getLong(i * SLOT + 8);
+                if (position != 0) {
+                    insert(grown, capacity - 1, slots.getLong(i * SLOT),
+                            position);
+                }
+            }
+            slots = grown;
+            mask = capacity - 1;
+        }
+        
+        /*
+         * Returns true if the key was not in the table yet.
+         */
+        private static boolean insert(ByteBuffer slots, int mask, long key,
+                long position) {
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                long taken = slots.getLong(i * SLOT + 8);
+                if (taken == 0 || slots.getLong(i * SLOT) == key) {
+                    slots.putLong(i * SLOT, key);
+                    slots.putLong(i * SLOT + 8, position);
+                    return taken == 0;
+                }
+            }
+        }
+        
+        private static int hash(long key) {
+            key *= 0x9E3779B97F4A7C15L;
+            return (int) (key ^ (key >>> 32));
+        }
+        
+    }
+    
+}
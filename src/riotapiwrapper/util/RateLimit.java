@@ -1,70 +1,92 @@
 package riotapiwrapper.util;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
-
+/*
+ * A single rate limit window of N requests every T seconds.
+ *
+ * The send times of the last N requests are kept in a ring buffer, read
+ * against System.nanoTime(). The window opens back up as soon as the oldest of
+ * those sends is T seconds old, so nothing needs to be scheduled to expire
+ * them and no background threads are used.
+ *
+ * Not thread safe on its own, RateLimiter guards every access.
+ */
 class RateLimit {
 
     final int max;
     final int time;                //in seconds
-    private int current;
-    private Timer timer;
-    
+    private final long window;     //in nanoseconds
+    private final long[] sends;
+    private int next;              //slot of the oldest send once full
+    private int count;
+    private int allowed;           //max after scaling
+
     RateLimit(int N, int T) {
         if (N < 1 || T < 1) {
             throw new IllegalArgumentException("N and T cannot be negative");
         }
         this.max = N;
         this.time = T;
-        this.current = 0;
+        this.window = T * 1_000_000_000L;
+        this.sends = new long[N];
+        this.next = 0;
+        this.count = 0;
+        this.allowed = N;
     }
-    
-    void add() {
-        if (isFull()) throw new IllegalStateException("added while full");
-        if (current == 0) timer = new Timer();
-        ++current;
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                remove();
-            }
-        }, time * 1000);
+
+    /*
+     * Records a send at the given time. The caller must check that the window
+     * is open first.
+     */
+    void add(long now) {
+        if (isFull(now)) throw new IllegalStateException("added while full");
+        sends[next] = now;
+        next = (next + 1) % max;
+        if (count < max) ++count;
     }
-    
-    private void remove() {
-        --current;
-        if (current == 0) timer.cancel();
+
+    /*
+     * Nanoseconds from now until another send fits in the window, 0 if one
+     * fits already.
+     */
+    long nanosUntilOpen(long now) {
+        if (count < allowed) return 0;
+        long oldest = sends[(next - allowed + max) % max];
+        long wait = oldest + window - now;
+        return wait > 0 ? wait : 0;
     }
     
-    boolean isFull() {
-        return (current >= max);
+    /*
+     * Allows only the given fraction of max sends in the window, at least one.
+     */
+    void scale(double factor) {
+        allowed = (int) Math.max(1, Math.min(max, Math.floor(max * factor)));
     }
-    
-    public int current() {
-        return current;
+
+    boolean isFull(long now) {
+        return nanosUntilOpen(now) > 0;
     }
-    
+
+    /*
+     * Number of sends still inside the window.
+     */
+    int current(long now) {
+        int inWindow = 0;
+        for (int i = 0; i < count; i++) {
+            if (now - sends[i] < window) ++inWindow;
+        }
+        return inWindow;
+    }
+
+    /*
+     * Fraction of the allowed sends already inside the window.
+     */
+    double load(long now) {
+        return Math.min(1, (double) current(now) / allowed);
+    }
+
     @Override
     public String toString() {
-        return current + "/" + max;
-    }
-    
-    public static void main(String[] args) {
-        RateLimit limit = new RateLimit(5, 5);
-        limit.add();
-        limit.add();
-        limit.add();
-        limit.add();
-        limit.add();
-        Timer t = new Timer();
-        t.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                limit.add();
-                t.cancel();
-            }
-        }, 6000);
+        return current(System.nanoTime()) + "/" + allowed;
     }
-    
+
 }
@@ -0,0 +1,157 @@
+package riotapiwrapper.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks any number of rate limit windows for a single API key and hands out
+ * permits to send requests without going over them.
+ * <p>
+ * The windows are kept as a sliding log of send times read from
+ * {@code System.nanoTime()}, so no timers or background threads are used.
+ * Besides checking if a request can be sent right now, a {@code RateLimiter}
+ * can tell when the next permit will be available, which lets a
+ * {@code RequestArbiter} wait exactly that long instead of polling.
+ * 
+ * @see     DefaultThrottle
+ */
+public class RateLimiter {
+    
+    private final List<RateLimit> limits = new ArrayList<RateLimit>();
+    private double scale = 1.0;
+    
+    /**
+     * Creates a {@code RateLimiter} without any limits. Every request will be
+     * allowed until a limit is added.
+     */
+    public RateLimiter() { }
+    
+    /**
+     * Adds a limit of N requests every T seconds.
+     * 
+     * @param N     The maximum amount of requests allowed within the time
+     *              limit.
+     * @param T     The time limit in seconds.
+     * @throws      IllegalArgumentException if either N or T are below 1.
+     */
+    public synchronized void addLimit(int N, int T) {
+        RateLimit limit = new RateLimit(N, T);
+        limit.scale(scale);
+        limits.add(limit);
+    }
+    
+    /**
+     * Returns the number of limits being tracked.
+     * 
+     * @return  The number of limits being tracked.
+     */
+    public synchronized int numLimits() {
+        return limits.size();
+    }
+    
+    /**
+     * Returns if a request can be sent right now without violating any of the
+     * limits.
+     * 
+     * @return  true if a request can be sent without violating the limits.
+     */
+    public synchronized boolean isOpen() {
+        return nanosUntilPermit(System.nanoTime()) == 0;
+    }
+    
+    /**
+     * Takes a permit if a request can be sent right now without violating any
+     * of the limits, counting the request against every limit.
+     * 
+     * @return  true if a permit was taken, false if the request has to wait.
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (nanosUntilPermit(now) > 0) return false;
+        for (RateLimit limit : limits) {
+            limit.add(now);
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the amount of time until the next permit is available, in
+     * nanoseconds. Returns 0 if a permit is available now.
+     * 
+     * @return  The nanoseconds until the next permit is available.
+     */
+    public synchronized long nanosUntilPermit() {
+        return nanosUntilPermit(System.nanoTime());
+    }
+    
+    /**
+     * Returns the earliest time the next permit is available, on the same
+     * time scale as {@code System.nanoTime()}.
+     * 
+     * @return  The earliest {@code System.nanoTime()} value at which the next
+     *          permit is available.
+     */
+    public synchronized long nextPermitTime() {
+        long now = System.nanoTime();
+        return now + nanosUntilPermit(now);
+    }
+    
+    /**
+     * Returns how much of its limits have been used, as the fraction of the
+     * fullest limit's requests already sent within its window. A
+     * {@code RateLimiter} without limits has a load of 0.
+     * 
+     * @return  The fraction of the fullest limit in use, from 0 to 1.
+     */
+    public synchronized double load() {
+        long now = System.nanoTime();
+        double load = 0;
+        for (RateLimit limit : limits) {
+            load = Math.max(load, limit.load(now));
+        }
+        return load;
+    }
+    
+    /**
+     * Scales every limit down to the given fraction of its requests, so a
+     * limit of N requests every T seconds allows N * scale of them, and at
+     * least one. A scale of 1 restores the limits as they were given.
+     * 
+     * @param scale     The fraction of each limit to allow, above 0 and at
+     *                  most 1.
+     * @throws  IllegalArgumentException if scale is not above 0 and at most 1.
+     */
+    public synchronized void setScale(double scale) {
+        if (!(scale > 0 && scale <= 1)) {
+            throw new IllegalArgumentException("scale must be above 0 and at "
+                    + "most 1");
+        }
+        this.scale = scale;
+        for (RateLimit limit : limits) {
+            limit.scale(scale);
+        }
+    }
+    
+    /**
+     * Returns the fraction of each limit currently allowed.
+     * 
+     * @return  The fraction of each limit currently allowed.
+     */
+    public synchronized double scale() {
+        return scale;
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return limits.toString();
+    }
+    
+    private long nanosUntilPermit(long now) {
+        long wait = 0;
+        for (RateLimit limit : limits) {
+            wait = Math.max(wait, limit.nanosUntilOpen(now));
+        }
+        return wait;
+    }
+    
+}
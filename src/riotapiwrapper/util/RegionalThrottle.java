@@ -0,0 +1,192 @@
+package riotapiwrapper.util;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import riotapiwrapper.Regions;
+import riotapiwrapper.request.Request;
+
+/**
+ * A {@code RequestArbiter} that keeps a separate queue and separate rate
+ * limit windows for every region, since the API server enforces your key's
+ * limits for each regional shard on its own.
+ * <p>
+ * Each request is sent through the throttle for the region in its URL's host.
+ * Every region's queue is worked by its own dispatcher thread, so a backlog
+ * of requests to one region never holds back requests to another, and a crawl
+ * across several regions can send at the full rate in each of them. Limits
+ * added to a {@code RegionalThrottle} apply to every region.
+ * 
+ * @see     DefaultThrottle
+ * @see     Request#region()
+ */
+public class RegionalThrottle implements RequestArbiter {
+    
+    private final ConcurrentMap<Regions, DefaultThrottle> throttles =
+            new ConcurrentHashMap<Regions, DefaultThrottle>();
+    private final List<int[]> limits = new CopyOnWriteArrayList<int[]>();
+    
+    /**
+     * Creates a {@code RegionalThrottle} with the LoL API developer rate
+     * limits in every region, which are 10 requests/10 seconds and 500
+     * requests/10 minutes(600 seconds).
+     */
+    public RegionalThrottle() {
+        this(10, 10, 500, 600);
+    }
+    
+    /**
+     * Creates a {@code RegionalThrottle} with the specified rate limits in
+     * every region. If either N2 or T2 are 0, a second rate limit will not be
+     * used.
+     * 
+     * @param N1        Number of requests per time for the first rate limit.
+     * @param T1        Time limit for the first rate limit.
+     * @param N2        Number of request per time for the second rate limit.
+     *                  If 0, a second rate limit will not be used.
+     * @param T2        Time limit for the second rate limit. if 0, a second
+     *                  rate limit will not be used.
+     * @throws  IllegalArgumentException if N1, T1, N2 or T2 are < 0.
+     */
+    public RegionalThrottle(int N1, int T1, int N2, int T2) {
+        addLimit(N1, T1);
+        if (N2 != 0 || T2 != 0) addLimit(N2, T2);
+    }
+    
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        if (!request.isRateLimited()) {
+            request.send(handler);
+            return;
+        }
+        throttle(region(request)).arbitrate(request, handler);
+    }
+    
+    /**
+     * Returns if a request can be sent to at least one region without
+     * violating its rate limits. Regions no request has been sent to yet are
+     * always open, so use {@code isOpen(Request)} or {@code isOpen(Regions)}
+     * to check the region a request is sent to.
+     * 
+     * @return  true if a request can be sent to any region.
+     */
+    @Override
+    public boolean isOpen() {
+        if (throttles.size() < Regions.values().length) return true;
+        for (DefaultThrottle throttle : throttles.values()) {
+            if (throttle.isOpen()) return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Returns if the given request can be sent to its region without
+     * violating the region's rate limits.
+     * 
+     * @param request   The request to check.
+     * @return          true if the request can be sent.
+     */
+    public boolean isOpen(Request request) {
+        return !request.isRateLimited() || isOpen(region(request));
+    }
+    
+    /**
+     * Returns if a request can be sent to the given region without violating
+     * its rate limits.
+     * 
+     * @param region    The region to check.
+     * @return          true if a request can be sent to the region.
+     */
+    public boolean isOpen(Regions region) {
+        DefaultThrottle throttle = throttles.get(region);
+        return throttle == null || throttle.isOpen();
+    }
+    
+    /**
+     * Returns the number of requests waiting to be sent to every region.
+     * 
+     * @return  The number of requests waiting to be sent.
+     */
+    @Override
+    public int backlog() {
+        int backlog = 0;
+        for (DefaultThrottle throttle : throttles.values()) {
+            backlog += throttle.backlog();
+        }
+        return backlog;
+    }
+    
+    /**
+     * Returns the number of requests waiting to be sent to the given region.
+     * 
+     * @param region    The region to check.
+     * @return          The number of requests waiting to be sent to the
+     *                  region.
+     */
+    public int backlog(Regions region) {
+        DefaultThrottle throttle = throttles.get(region);
+        return throttle == null ? 0 : throttle.backlog();
+    }
+    
+    /**
+     * Adds a limit to every region, including regions that have not been
+     * sent any requests yet.
+     */
+    @Override
+    public synchronized void addLimit(int N, int T) {
+        if (N < 1 || T < 1) {
+            throw new IllegalArgumentException("N and T cannot be negative");
+        }
+        limits.add(new int[] {N, T});
+        for (DefaultThrottle throttle : throttles.values()) {
+            throttle.addLimit(N, T);
+        }
+    }
+    
+    @Override
+    public int numLimits() {
+        return limits.size();
+    }
+    
+    /**
+     * Creates the throttle used for a region the first time a request is sent
+     * to it. Subclasses can override this to use another kind of throttle,
+     * like an {@code AdaptiveThrottle}, for each region.
+     * 
+     * @param region    The region the throttle is for.
+     * @param limiter   The limiter holding the region's limits.
+     * @return          The throttle for the region.
+     */
+    protected DefaultThrottle newThrottle(Regions region, RateLimiter limiter) {
+        return new DefaultThrottle(limiter);
+    }
+    
+    /*
+     * Returns the region a request is sent to, which is its client's region
+     * for requests whose URL is not regional.
+     */
+    private static Regions region(Request request) {
+        Regions region = request.region();
+        return region == null ? request.client().region() : region;
+    }
+    
+    private DefaultThrottle throttle(Regions region) {
+        DefaultThrottle throttle = throttles.get(region);
+        if (throttle != null) return throttle;
+        synchronized (this) {
+            throttle = throttles.get(region);
+            if (throttle == null) {
+                RateLimiter limiter = new RateLimiter();
+                for (int[] limit : limits) {
+                    limiter.addLimit(limit[0], limit[1]);
+                }
+                throttle = newThrottle(region, limiter);
+                throttles.put(region, throttle);
+            }
+            return throttle;
+        }
+    }
+    
+}
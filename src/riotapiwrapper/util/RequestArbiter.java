@@ -29,9 +29,7 @@ public interface RequestArbiter {
      * @param N     The maximum amount of request allowed within the time 
      *              limit.
      * @param T     The amount of time limit in seconds.
-     * @throws      IllegalStateException if there are already two limits in
-     *              place.
-     * @throws      IllegalArgumentException if either N or T are below 0.
+     * @throws      IllegalArgumentException if either N or T are below 1.
      */
     public void addLimit(int N, int T);
     
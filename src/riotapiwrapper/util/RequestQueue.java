@@ -0,0 +1,169 @@
+package riotapiwrapper.util;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import riotapiwrapper.request.Request;
+
+/*
+ * A queue of requests waiting for a permit, shared by the arbiters that hold
+ * back requests until their limits open up.
+ * 
+ * The queue is worked by a single dispatcher thread which is parked until the
+ * exact time the next permit frees up. The dispatcher only takes permits:
+ * each request is sent on the I/O executor of the client it was built with,
+ * so a slow response never holds back the requests behind it. The thread is
+ * released after a minute without work.
+ * 
+ * P is the type of permit, like the key a request was given a permit for.
+ */
+abstract class RequestQueue<P> {
+    
+    private static final AtomicInteger threads = new AtomicInteger();
+    
+    private final Deque<RequestHandlerPair> requestQueue =
+            new ConcurrentLinkedDeque<RequestHandlerPair>();
+    private final AtomicInteger queued = new AtomicInteger();
+    
+    private final ScheduledThreadPoolExecutor dispatcher;
+    private final AtomicBoolean workingQueue = new AtomicBoolean();
+    
+    /*
+     * Creates a queue whose dispatcher thread is called name, followed by a
+     * number unique to the queue.
+     */
+    RequestQueue(String name) {
+        String threadName = name + " " + threads.incrementAndGet();
+        dispatcher = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.setKeepAliveTime(1, TimeUnit.MINUTES);
+        dispatcher.allowCoreThreadTimeOut(true);
+    }
+    
+    /*
+     * Returns the nanoseconds until a permit may be free, or 0 if one may be
+     * free now.
+     */
+    abstract long nanosUntilPermit();
+    
+    /*
+     * Takes a permit, or returns null if none is free.
+     */
+    abstract P acquire();
+    
+    /*
+     * Sends a request that has been given a permit. Called on the I/O
+     * executor of the request's client.
+     */
+    abstract void send(Request request, ResponseHandler handler, P permit);
+    
+    boolean isEmpty() {
+        return requestQueue.isEmpty();
+    }
+    
+    int size() {
+        return queued.get();
+    }
+    
+    void add(Request request, ResponseHandler handler) {
+        queued.incrementAndGet();
+        requestQueue.add(new RequestHandlerPair(request, handler));
+        workQueue();
+    }
+    
+    void addFirst(Request request, ResponseHandler handler) {
+        queued.incrementAndGet();
+        requestQueue.addFirst(new RequestHandlerPair(request, handler));
+        workQueue();
+    }
+    
+    /*
+     * Determines if the queue is going to be where further requests will be
+     * sent from.
+     */
+    private void workQueue() {
+        //makes sure the queue isn't being worked more than once.
+        if (requestQueue.isEmpty()) {
+            return;
+        }
+        if (workingQueue.compareAndSet(false, true)) {
+            dispatcher.execute(this::drainQueue);
+        }
+    }
+    
+    /*
+     * Hands as many queued requests to the I/O executor as the limits allow,
+     * then schedules itself for when the next permit frees up instead of
+     * polling.
+     * 
+     * When the queue is emptied, sets working queue to false until it is
+     * required for to hold requests again. The queue is checked once more
+     * afterwards, since a request may have been added after it was last seen
+     * empty but before the flag was cleared.
+     */
+    private void drainQueue() {
+        do {
+            while (!requestQueue.isEmpty()) {
+                long wait = nanosUntilPermit();
+                if (wait > 0) {
+                    dispatcher.schedule(this::drainQueue, wait,
+                            TimeUnit.NANOSECONDS);
+                    return;
+                }
+                P permit = acquire();
+                if (permit != null) sendNextInQueue(permit);
+            }
+            workingQueue.set(false);
+        } while (!requestQueue.isEmpty()
+                && workingQueue.compareAndSet(false, true));
+    }
+    
+    /*
+     * Only called from the dispatcher thread after a permit was taken, so the
+     * queue is never empty here. A request whose client's executor no longer
+     * takes work is sent from the dispatcher thread instead, where a failing
+     * handler is reported to the thread's uncaught exception handler so it
+     * cannot stop the rest of the queue.
+     */
+    private void sendNextInQueue(P permit) {
+        RequestHandlerPair pair = requestQueue.remove();
+        queued.decrementAndGet();
+        Runnable task = () -> send(pair.request, pair.handler, permit);
+        try {
+            pair.request.client().executor().execute(task);
+        } catch (RejectedExecutionException rejected) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread,
+                        e);
+            }
+        }
+    }
+    
+    /*
+     * Simple class for keeping a request and it's handler paired through the
+     * queue.
+     */
+    private static class RequestHandlerPair {
+        
+        final Request request;
+        final ResponseHandler handler;
+        
+        RequestHandlerPair(Request request, ResponseHandler handler) {
+            this.request = request;
+            this.handler = handler;
+        }
+        
+    }
+    
+}
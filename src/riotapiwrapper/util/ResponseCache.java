@@ -0,0 +1,515 @@
+package riotapiwrapper.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code RequestArbiter} that answers requests from the responses to
+ * earlier identical requests while they are fresh, and sends the rest through
+ * another arbiter.
+ * <p>
+ * Successful responses are kept for as long as the time to live set for their
+ * {@code RequestType}. Matches never change, so they are kept until evicted,
+ * while current games are only kept for 30 seconds. The times can be changed
+ * with {@code setTtl()}, and a time of 0 keeps a type from being cached at
+ * all. Requests are identical when they are equal, that is when they are of
+ * the same class and render the same URL without the API key.
+ * <p>
+ * {@code HTTPstatus.DATA_NOT_FOUND} responses, like those for a summoner name
+ * that is no longer used or a player without ranked stats, are kept as well,
+ * so they are not asked for over and over. Since the data may appear later,
+ * they are kept for their own, shorter time, set with
+ * {@code setNotFoundTtl()}, of a minute at most by default. Other errors are
+ * never kept.
+ * <p>
+ * The cache is bounded by both a number of responses and the memory taken by
+ * their data. It is split into a probation and a protected segment: responses
+ * enter on probation and are moved to the protected segment when they are
+ * asked for again, so a burst of responses that are only asked for once, like
+ * a crawl through match histories, cannot push out the responses that are
+ * asked for often. The least recently used response on probation is evicted
+ * first.
+ * <p>
+ * The cache is split into 16 stripes by the requests' hash codes, each with
+ * its own lock and an even share of the bounds, so threads looking up
+ * different requests rarely wait on each other. A response is only kept if
+ * it fits in a stripe's share of the memory.
+ * <p>
+ * Put the cache in front of any other arbiter, so that answered requests
+ * never reach it:
+ * <pre>
+ * new ResponseCache(new SingleFlight(new DefaultThrottle()))
+ * </pre>
+ * 
+ * @see     SingleFlight
+ */
+public class ResponseCache implements RequestArbiter {
+    
+    /**
+     * The time to live of responses that are kept until they are evicted.
+     */
+    public static final long FOREVER = Long.MAX_VALUE;
+    
+    private static final long ENTRY_OVERHEAD = 64;
+    private static final int STRIPES = 16;
+    
+    private final RequestArbiter arbiter;
+    private final Stripe[] stripes;
+    private final AtomicLongArray ttls =
+            new AtomicLongArray(RequestType.values().length);
+    private final AtomicLongArray notFoundTtls =
+            new AtomicLongArray(RequestType.values().length);
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    /**
+     * Creates a {@code ResponseCache} in front of the given arbiter that
+     * keeps up to 10,000 responses and 64 MB of response data.
+     * 
+     * @param arbiter   The arbiter requests that are not answered from the
+     *                  cache are sent through.
+     * @throws  NullPointerException if arbiter is null.
+     */
+    public ResponseCache(RequestArbiter arbiter) {
+        this(arbiter, 10000, 64L << 20);
+    }
+    
+    /**
+     * Creates a {@code ResponseCache} in front of the given arbiter with the
+     * given bounds.
+     * 
+     * @param arbiter       The arbiter requests that are not answered from
+     *                      the cache are sent through.
+     * @param maxEntries    The most responses to keep.
+     * @param maxBytes      The most memory, in bytes, the kept responses'
+     *                      data can take.
+     * @throws  NullPointerException if arbiter is null.
+     * @throws  IllegalArgumentException if maxEntries or maxBytes are below 1.
+     */
+    public ResponseCache(RequestArbiter arbiter, int maxEntries,
+            long maxBytes) {
+        if (arbiter == null) {
+            throw new NullPointerException("the arbiter cannot be null");
+        }
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must "
+                    + "be at least 1");
+        }
+        this.arbiter = arbiter;
+        int count = STRIPES;
+        while (count > 1 && (count > maxEntries || count > maxBytes)) {
+            count >>= 1;
+        }
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxEntries / count, maxBytes / count);
+        }
+        setTtl(RequestType.CHAMPION, 5, TimeUnit.MINUTES);
+        setTtl(RequestType.CURRENT_GAME, 30, TimeUnit.SECONDS);
+        setTtl(RequestType.FEATURED_GAMES, 30, TimeUnit.SECONDS);
+        setTtl(RequestType.GAME, 5, TimeUnit.MINUTES);
+        setTtl(RequestType.LEAGUE, 5, TimeUnit.MINUTES);
+        setTtl(RequestType.LOL_STATIC_DATA, 1, TimeUnit.HOURS);
+        setTtl(RequestType.LOL_STATUS, 1, TimeUnit.MINUTES);
+        setTtl(RequestType.MATCH, FOREVER, TimeUnit.NANOSECONDS);
+        setTtl(RequestType.MATCHHISTORY, 5, TimeUnit.MINUTES);
+        setTtl(RequestType.STATS, 10, TimeUnit.MINUTES);
+        setTtl(RequestType.SUMMONER, 10, TimeUnit.MINUTES);
+        setTtl(RequestType.TEAM, 10, TimeUnit.MINUTES);
+        for (RequestType type : RequestType.values()) {
+            setNotFoundTtl(type, Math.min(ttl(ttls, type),
+                    TimeUnit.MINUTES.toNanos(1)), TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Answers the request from the cache if a fresh response to it is kept,
+     * on the calling thread. Otherwise the request is sent through the
+     * arbiter and its response kept if it was successful or the data was not
+     * found.
+     */
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        Response cached = stripe(request).get(request);
+        if (cached != null) {
+            handler.operate(cached);
+            return;
+        }
+        arbiter.arbitrate(request, response -> {
+            put(request, response);
+            handler.operate(response);
+        });
+    }
+    
+    /**
+     * Sets how long responses to a type of request are kept. Responses
+     * already kept are not affected.
+     * 
+     * @param type  The type of request.
+     * @param ttl   How long to keep responses, 0 to not keep them at all or
+     *              {@code FOREVER} to keep them until they are evicted.
+     * @param unit  The unit of ttl. Ignored for {@code FOREVER}.
+     * @throws  IllegalArgumentException if ttl is below 0.
+     */
+    public void setTtl(RequestType type, long ttl, TimeUnit unit) {
+        setTtl(ttls, type, ttl, unit);
+    }
+    
+    /**
+     * Sets how long {@code HTTPstatus.DATA_NOT_FOUND} responses to a type of
+     * request are kept. Responses already kept are not affected.
+     * 
+     * @param type  The type of request.
+     * @param ttl   How long to keep responses, 0 to not keep them at all or
+     *              {@code FOREVER} to keep them until they are evicted.
+     * @param unit  The unit of ttl. Ignored for {@code FOREVER}.
+     * @throws  IllegalArgumentException if ttl is below 0.
+     */
+    public void setNotFoundTtl(RequestType type, long ttl, TimeUnit unit) {
+        setTtl(notFoundTtls, type, ttl, unit);
+    }
+    
+    /**
+     * Returns how long responses to a type of request are kept.
+     * 
+     * @param type  The type of request.
+     * @param unit  The unit to return the time in.
+     * @return      How long responses are kept, or {@code FOREVER}.
+     */
+    public long getTtl(RequestType type, TimeUnit unit) {
+        return getTtl(ttls, type, unit);
+    }
+    
+    /**
+     * Returns how long {@code HTTPstatus.DATA_NOT_FOUND} responses to a type
+     * of request are kept.
+     * 
+     * @param type  The type of request.
+     * @param unit  The unit to return the time in.
+     * @return      How long responses are kept, or {@code FOREVER}.
+     */
+    public long getNotFoundTtl(RequestType type, TimeUnit unit) {
+        return getTtl(notFoundTtls, type, unit);
+    }
+    
+    /**
+     * Removes the response kept for a request, so the next identical request
+     * is sent to the API server.
+     * 
+     * @param request   The request to forget the response to.
+     */
+    public void invalidate(Request request) {
+        stripe(request).invalidate(request);
+    }
+    
+    /**
+     * Removes every kept response. The statistics are not reset.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+    
+    /**
+     * Returns the number of requests answered from the cache.
+     * 
+     * @return  The number of cache hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns the number of requests that were not answered from the cache
+     * and sent through the arbiter.
+     * 
+     * @return  The number of cache misses.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+    
+    /**
+     * Returns the number of responses removed to keep the cache within its
+     * bounds. Expired and invalidated responses are not counted.
+     * 
+     * @return  The number of evictions.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+    
+    /**
+     * Returns the number of responses kept, including expired responses that
+     * have not been removed yet.
+     * 
+     * @return  The number of responses kept.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+    
+    /**
+     * Returns the estimated memory, in bytes, taken by the kept responses.
+     * 
+     * @return  The bytes taken by the kept responses.
+     */
+    public long bytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            bytes += stripe.bytes();
+        }
+        return bytes;
+    }
+    
+    /**
+     * Returns the arbiter requests that are not answered from the cache are
+     * sent through.
+     * 
+     * @return  The arbiter requests are sent through.
+     */
+    public RequestArbiter arbiter() {
+        return arbiter;
+    }
+    
+    @Override
+    public int numLimits() {
+        return arbiter.numLimits();
+    }
+    
+    @Override
+    public void addLimit(int N, int T) {
+        arbiter.addLimit(N, T);
+    }
+    
+    @Override
+    public boolean isOpen() {
+        return arbiter.isOpen();
+    }
+    
+    @Override
+    public int backlog() {
+        return arbiter.backlog();
+    }
+    
+    private Stripe stripe(Request request) {
+        int hash = request.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+    
+    /*
+     * Keeps a response the arbiter returned. Its URL holds no API key, so it
+     * can be handed to whoever asks next.
+     */
+    private void put(Request request, Response response) {
+        RequestType type = response.requestType == null ? request.type()
+                : response.requestType;
+        long ttl;
+        if (response.status == HTTPstatus.SUCCESSFUL) {
+            ttl = ttl(ttls, type);
+        } else if (response.status == HTTPstatus.DATA_NOT_FOUND) {
+            ttl = ttl(notFoundTtls, type);
+        } else {
+            return;
+        }
+        if (ttl == 0) return;
+        Stripe stripe = stripe(request);
+        long bytes = ENTRY_OVERHEAD + response.length();
+        if (bytes > stripe.maxBytes) return;
+        long expires = ttl == FOREVER ? FOREVER : System.nanoTime() + ttl;
+        stripe.put(request, new Entry(response, expires, bytes));
+    }
+    
+    private static void setTtl(AtomicLongArray ttls, RequestType type,
+            long ttl, TimeUnit unit) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl cannot be negative");
+        }
+        ttls.set(type.ordinal(), ttl == FOREVER ? FOREVER : unit.toNanos(ttl));
+    }
+    
+    private static long getTtl(AtomicLongArray ttls, RequestType type,
+            TimeUnit unit) {
+        long nanos = ttl(ttls, type);
+        return nanos == FOREVER ? FOREVER : unit.convert(nanos,
+                TimeUnit.NANOSECONDS);
+    }
+    
+    private static long ttl(AtomicLongArray ttls, RequestType type) {
+        return ttls.get(type.ordinal());
+    }
+    
+    /*
+     * One stripe of the cache, with its own share of the bounds, split into
+     * a probation and a protected segment.
+     */
+    private final class Stripe {
+        
+        final int maxEntries;
+        final long maxBytes;
+        
+        //guarded by this
+        private final Segment probation = new Segment();
+        private final Segment protect = new Segment();
+        
+        Stripe(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+        
+        synchronized Response get(Request request) {
+            long now = System.nanoTime();
+            Entry entry = probation.map.get(request);
+            if (entry != null) {
+                probation.remove(request);
+                if (entry.expired(now)) {
+                    misses.increment();
+                    return null;
+                }
+                //asked for twice, so worth protecting
+                protect.put(request, entry);
+                demote();
+                hits.increment();
+                return entry.response;
+            }
+            entry = protect.map.get(request);
+            if (entry != null && entry.expired(now)) {
+                protect.remove(request);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.response;
+        }
+        
+        synchronized void put(Request request, Entry entry) {
+            invalidate(request);
+            probation.put(request, entry);
+            evict();
+        }
+        
+        synchronized void invalidate(Request request) {
+            if (probation.remove(request) == null) protect.remove(request);
+        }
+        
+        synchronized void clear() {
+            probation.clear();
+            protect.clear();
+        }
+        
+        synchronized int size() {
+            return probation.map.size() + protect.map.size();
+        }
+        
+        synchronized long bytes() {
+            return probation.bytes + protect.bytes;
+        }
+        
+        /*
+         * Moves the least recently used protected responses back to
+         * probation while the protected segment is over its share of the
+         * bounds.
+         */
+        private void demote() {
+            int entries = Math.max(1, maxEntries / 5 * 4);
+            long bytes = maxBytes / 5 * 4;
+            Iterator<Map.Entry<Request, Entry>> it =
+                    protect.map.entrySet().iterator();
+            while (protect.map.size() > entries || protect.bytes > bytes) {
+                Map.Entry<Request, Entry> eldest = it.next();
+                it.remove();
+                protect.bytes -= eldest.getValue().bytes;
+                probation.put(eldest.getKey(), eldest.getValue());
+            }
+            evict();
+        }
+        
+        /*
+         * Removes the least recently used responses on probation while the
+         * stripe is over its bounds, and then protected ones if everything
+         * left is protected.
+         */
+        private void evict() {
+            evict(probation);
+            evict(protect);
+        }
+        
+        private void evict(Segment segment) {
+            Iterator<Map.Entry<Request, Entry>> it =
+                    segment.map.entrySet().iterator();
+            while ((size() > maxEntries || bytes() > maxBytes)
+                    && it.hasNext()) {
+                Map.Entry<Request, Entry> eldest = it.next();
+                it.remove();
+                segment.bytes -= eldest.getValue().bytes;
+                evictions.increment();
+            }
+        }
+        
+    }
+    
+    /*
+     * A segment of the cache in least recently used order.
+     */
+    private static final class Segment {
+        
+        final LinkedHashMap<Request, Entry> map =
+                new LinkedHashMap<Request, Entry>(16, 0.75f, true);
+        long bytes;
+        
+        void put(Request request, Entry entry) {
+            map.put(request, entry);
+            bytes += entry.bytes;
+        }
+        
+        Entry remove(Request request) {
+            Entry entry = map.remove(request);
+            if (entry != null) bytes -= entry.bytes;
+            return entry;
+        }
+        
+        void clear() {
+            map.clear();
+            bytes = 0;
+        }
+        
+    }
+    
+    private static final class Entry {
+        
+        final Response response;
+        final long expires;
+        final long bytes;
+        
+        Entry(Response response, long expires, long bytes) {
+            this.response = response;
+            this.expires = expires;
+            this.bytes = bytes;
+        }
+        
+        boolean expired(long now) {
+            return expires != FOREVER && now - expires >= 0;
+        }
+        
+    }
+    
+}
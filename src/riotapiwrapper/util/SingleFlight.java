@@ -0,0 +1,157 @@
+package riotapiwrapper.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code RequestArbiter} that sends only one of any identical requests
+ * waiting or in flight at the same time, through another arbiter.
+ * <p>
+ * Requests are identical when they are equal, that is when they are of the
+ * same class and render the same URL without the API key. If a request comes
+ * in while an identical one is still queued or being sent, its
+ * {@code ResponseHandler} is attached to the one already outstanding instead
+ * of the request being arbitrated again, so it costs none of your key's rate
+ * limits. Every attached handler is given the same {@code Response}, in the
+ * order they came in, and a handler that throws does not keep it from the
+ * handlers after it. Once that response has been handled, the next identical
+ * request is sent on its own again.
+ * <p>
+ * A {@code StreamingResponseHandler} is passed straight through to the
+ * arbiter, so its response is streamed to it while it arrives. A streamed
+ * body can only be read once, so such requests are never attached to others
+ * or others to them.
+ * <p>
+ * The default arbiters of {@code LolAPI} and {@code LolClient} are wrapped in
+ * a {@code SingleFlight}. Arbiters passed to them are not, so wrap one
+ * yourself to have duplicates removed in front of it.
+ * 
+ * @see     Request#equals(Object)
+ */
+public class SingleFlight implements RequestArbiter {
+    
+    private final RequestArbiter arbiter;
+    
+    //guarded by itself
+    private final Map<Request, List<ResponseHandler>> outstanding =
+            new HashMap<Request, List<ResponseHandler>>();
+    
+    /**
+     * Creates a {@code SingleFlight} in front of the given arbiter.
+     * 
+     * @param arbiter   The arbiter the requests that are not duplicates are
+     *                  sent through.
+     * @throws  NullPointerException if arbiter is null.
+     */
+    public SingleFlight(RequestArbiter arbiter) {
+        if (arbiter == null) {
+            throw new NullPointerException("the arbiter cannot be null");
+        }
+        this.arbiter = arbiter;
+    }
+    
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        if (handler instanceof StreamingResponseHandler) {
+            arbiter.arbitrate(request, handler);
+            return;
+        }
+        List<ResponseHandler> handlers = new ArrayList<ResponseHandler>(1);
+        handlers.add(handler);
+        synchronized (outstanding) {
+            List<ResponseHandler> waiting = outstanding.get(request);
+            if (waiting != null) {
+                waiting.add(handler);
+                return;
+            }
+            outstanding.put(request, handlers);
+        }
+        try {
+            arbiter.arbitrate(request,
+                    response -> complete(request, handlers, response));
+        } catch (RuntimeException e) {
+            synchronized (outstanding) {
+                outstanding.remove(request, handlers);
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Returns the number of distinct requests waiting or in flight.
+     * 
+     * @return  The number of distinct requests outstanding.
+     */
+    public int outstanding() {
+        synchronized (outstanding) {
+            return outstanding.size();
+        }
+    }
+    
+    /**
+     * Returns the arbiter requests are sent through.
+     * 
+     * @return  The arbiter requests are sent through.
+     */
+    public RequestArbiter arbiter() {
+        return arbiter;
+    }
+    
+    @Override
+    public int numLimits() {
+        return arbiter.numLimits();
+    }
+    
+    @Override
+    public void addLimit(int N, int T) {
+        arbiter.addLimit(N, T);
+    }
+    
+    @Override
+    public boolean isOpen() {
+        return arbiter.isOpen();
+    }
+    
+    /**
+     * Returns the number of requests waiting to be sent by the arbiter
+     * requests are sent through. Duplicates attached to those requests are not
+     * counted.
+     * 
+     * @return  The number of requests waiting to be sent.
+     */
+    @Override
+    public int backlog() {
+        return arbiter.backlog();
+    }
+    
+    /*
+     * Gives the response to every attached handler, even if one of them
+     * fails, then throws the first failure with the rest suppressed by it.
+     */
+    private void complete(Request request, List<ResponseHandler> handlers,
+            Response response) {
+        synchronized (outstanding) {
+            outstanding.remove(request, handlers);
+        }
+        //no more handlers are added once it has been removed
+        RuntimeException failure = null;
+        for (ResponseHandler handler : handlers) {
+            try {
+                handler.operate(response);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) throw failure;
+    }
+    
+}
@@ -0,0 +1,431 @@
+package riotapiwrapper.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.Regions;
+import riotapiwrapper.dto.RealmDto;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.LolStaticData;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code RequestArbiter} that keeps static data on disk, so it only has to
+ * be downloaded once for every patch instead of every time your application
+ * starts.
+ * <p>
+ * Static data is stored in a directory for each region, locale and version,
+ * under the directory the store is created with. Requests that do not ask for
+ * a version are answered with the newest version for their region, which is
+ * read from {@code LolStaticData.realm()} the first time static data is
+ * requested for the region, along with the region's default locale. The realm
+ * is requested through the other arbiter, and requests for the region wait
+ * for it without blocking the thread that made them. If the realm cannot be
+ * requested or is malformed, that is remembered for 30 seconds, during which
+ * requests for the region are sent through the other arbiter without being
+ * stored. Files are mapped into memory as they are loaded, and {@code load()}
+ * maps every file stored for a client's region, locale and version at once,
+ * so it can be called when your application starts.
+ * <p>
+ * Static data that is not stored yet is requested through another arbiter and
+ * written to disk if the request is successful. Requests for the realm and
+ * the list of versions, which change with every patch, and requests of other
+ * types are always sent through the other arbiter.
+ * <p>
+ * A stored file that cannot be read, or a response that cannot be written,
+ * makes {@code arbitrate()} throw an {@code UncheckedIOException}. A response
+ * that could not be written is still given to the handler first.
+ * 
+ * @see     LolStaticData
+ */
+public class StaticDataStore implements RequestArbiter {
+    
+    private static final long REALM_RETRY = TimeUnit.SECONDS.toNanos(30);
+    
+    private final Path directory;
+    private final RequestArbiter arbiter;
+    
+    private final ConcurrentMap<Regions, Realm> realms =
+            new ConcurrentHashMap<Regions, Realm>();
+    //requests waiting for their region's realm, guarded by itself
+    private final Map<Regions, List<Runnable>> waiting =
+            new EnumMap<Regions, List<Runnable>>(Regions.class);
+    private final ConcurrentMap<Path, MappedByteBuffer> mapped =
+            new ConcurrentHashMap<Path, MappedByteBuffer>();
+    
+    /**
+     * Creates a {@code StaticDataStore} in the given directory, in front of
+     * the given arbiter. The directory is created if it does not exist.
+     * 
+     * @param directory The directory to store static data in.
+     * @param arbiter   The arbiter requests that are not answered from disk
+     *                  are sent through.
+     * @throws  NullPointerException if directory or arbiter are null.
+     * @throws  IOException if the directory could not be created.
+     */
+    public StaticDataStore(Path directory, RequestArbiter arbiter)
+            throws IOException {
+        if (directory == null || arbiter == null) {
+            throw new NullPointerException("the directory and arbiter cannot "
+                    + "be null");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.arbiter = arbiter;
+    }
+    
+    /**
+     * Maps every file stored for the region, locale and version of a client
+     * into memory. If the client does not have a version, the newest version
+     * for its region is used, and this waits for its realm to be requested if
+     * it is not known yet.
+     * 
+     * @param client    The client whose static data to load.
+     * @return          The number of files loaded.
+     * @throws  IOException if a file could not be mapped, or the realm of
+     *          the client's region could not be requested or is malformed.
+     * @throws  InterruptedIOException if interrupted while waiting for the
+     *          realm.
+     */
+    public int load(LolClient client) throws IOException {
+        CountDownLatch known = new CountDownLatch(1);
+        withRealm(client, known::countDown);
+        try {
+            known.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for "
+                    + "the realm of " + client.region().NAME);
+        }
+        Path folder = folder(client);
+        if (folder == null) {
+            throw new IOException("the realm of " + client.region().NAME
+                    + " could not be requested");
+        }
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(".tmp")) continue;
+                if (map(file) != null) ++loaded;
+            }
+        } catch (NoSuchFileException e) {
+            //nothing stored yet
+        }
+        return loaded;
+    }
+    
+    /**
+     * Answers a static data request from disk if it is stored, and otherwise
+     * sends it through the arbiter and stores a successful response. If the
+     * request waits for its region's realm, it is answered on the thread the
+     * realm arrives on.
+     * 
+     * @throws  UncheckedIOException if the request's stored file could not
+     *          be read, or its response could not be written.
+     */
+    @Override
+    public void arbitrate(Request request, ResponseHandler handler) {
+        if (!storable(request)) {
+            arbiter.arbitrate(request, handler);
+            return;
+        }
+        withRealm(request.client(), () -> answer(request, handler));
+    }
+    
+    /*
+     * Answers a storable request once the realm it needs is known.
+     */
+    private void answer(Request request, ResponseHandler handler) {
+        Path file = file(request);
+        if (file == null) {
+            arbiter.arbitrate(request, handler);
+            return;
+        }
+        ByteBuffer stored;
+        try {
+            stored = map(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (stored != null) {
+            //the body is read straight from the mapped file
+            handler.operate(new Response(request.toString(), stored,
+                    HTTPstatus.SUCCESSFUL.CODE,
+                    Collections.<String, String>emptyMap(), 0, 0,
+                    RequestType.LOL_STATIC_DATA));
+            return;
+        }
+        arbiter.arbitrate(request, response -> {
+            IOException failure = null;
+            if (response.status == HTTPstatus.SUCCESSFUL) {
+                try {
+                    store(file, response.bytes());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            handler.operate(response);
+            if (failure != null) throw new UncheckedIOException(failure);
+        });
+    }
+    
+    /**
+     * Returns the number of files mapped into memory.
+     * 
+     * @return  The number of files mapped into memory.
+     */
+    public int size() {
+        return mapped.size();
+    }
+    
+    /**
+     * Returns the directory static data is stored in.
+     * 
+     * @return  The directory static data is stored in.
+     */
+    public Path directory() {
+        return directory;
+    }
+    
+    /**
+     * Returns the arbiter requests that are not answered from disk are sent
+     * through.
+     * 
+     * @return  The arbiter requests are sent through.
+     */
+    public RequestArbiter arbiter() {
+        return arbiter;
+    }
+    
+    @Override
+    public int numLimits() {
+        return arbiter.numLimits();
+    }
+    
+    @Override
+    public void addLimit(int N, int T) {
+        arbiter.addLimit(N, T);
+    }
+    
+    @Override
+    public boolean isOpen() {
+        return arbiter.isOpen();
+    }
+    
+    @Override
+    public int backlog() {
+        return arbiter.backlog();
+    }
+    
+    private static boolean storable(Request request) {
+        if (request.type() != RequestType.LOL_STATIC_DATA) return false;
+        String subtype = ((LolStaticData) request).subtype();
+        return !subtype.equals("realm") && !subtype.equals("versions");
+    }
+    
+    /*
+     * Returns the file a storable request is stored in, or null if its
+     * region's realm is not known.
+     */
+    private Path file(Request request) {
+        Path folder = folder(request.client());
+        if (folder == null) return null;
+        //the url's path after the region's name, with its parameters
+        String url = request.toString();
+        String marker = "/static-data/" + request.region().ABREV + "/";
+        String name = encode(url.substring(url.indexOf(marker)
+                + marker.length()));
+        if (name.length() > 200) {
+            name = name.substring(0, 180) + '~'
+                    + Integer.toHexString(url.hashCode());
+        }
+        return folder.resolve(name);
+    }
+    
+    /*
+     * Returns the directory for a client's region, locale and version, or
+     * null if the region's realm is needed and not known.
+     */
+    private Path folder(LolClient client) {
+        String locale = client.locale() == null ? null
+                : client.locale().toString();
+        String version = client.version();
+        if (locale == null || version == null) {
+            Realm realm = realms.get(client.region());
+            if (realm == null || realm.version == null) return null;
+            if (version == null) version = realm.version;
+            if (locale == null) locale = realm.locale;
+        }
+        return directory.resolve(client.region().ABREV)
+                .resolve(encode(locale))
+                .resolve(encode(version));
+    }
+    
+    /*
+     * Runs then once the realm of the client's region is known, or was
+     * found missing less than REALM_RETRY ago. The first request to need it
+     * sends the realm request through the arbiter, and the rest wait for it.
+     */
+    private void withRealm(LolClient client, Runnable then) {
+        if (client.locale() != null && client.version() != null) {
+            then.run();
+            return;
+        }
+        Regions region = client.region();
+        Realm realm = realms.get(region);
+        if (realm != null && !realm.stale(System.nanoTime())) {
+            then.run();
+            return;
+        }
+        synchronized (waiting) {
+            List<Runnable> queued = waiting.get(region);
+            if (queued != null) {
+                queued.add(then);
+                return;
+            }
+            queued = new ArrayList<Runnable>();
+            queued.add(then);
+            waiting.put(region, queued);
+        }
+        try {
+            arbiter.arbitrate(LolStaticData.realm(client.withLocale(null)
+                    .withVersion(null)), response -> learned(region, response));
+        } catch (RuntimeException e) {
+            learned(region, null);
+            throw e;
+        }
+    }
+    
+    /*
+     * Keeps the realm read from a response, or the failure to read it, and
+     * runs everything waiting for it. Every waiting request is answered even
+     * if some of them throw, and the first failure is thrown after.
+     */
+    private void learned(Regions region, Response response) {
+        realms.put(region, Realm.read(response));
+        List<Runnable> queued;
+        synchronized (waiting) {
+            queued = waiting.remove(region);
+        }
+        if (queued == null) return;
+        RuntimeException failure = null;
+        for (Runnable then : queued) {
+            try {
+                then.run();
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+    
+    /*
+     * Maps a stored file into memory, or returns null if it is not stored.
+     */
+    private ByteBuffer map(Path file) throws IOException {
+        MappedByteBuffer buffer = mapped.get(file);
+        if (buffer != null) return buffer;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        buffer.load();
+        MappedByteBuffer raced = mapped.putIfAbsent(file, buffer);
+        return raced == null ? buffer : raced;
+    }
+    
+    /*
+     * Writes to a temporary file first, so a file that is stored is always
+     * complete.
+     */
+    private void store(Path file, ByteBuffer data) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "sd-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.WRITE)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    private static String encode(String name) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8);
+    }
+    
+    /*
+     * The newest version and default locale of a region, or neither if its
+     * realm could not be requested or was malformed.
+     */
+    private static final class Realm {
+        
+        final String version;
+        final String locale;
+        final long retryAt;
+        
+        Realm(String version, String locale, long retryAt) {
+            this.version = version;
+            this.locale = locale;
+            this.retryAt = retryAt;
+        }
+        
+        static Realm read(Response response) {
+            if (response != null
+                    && response.status == HTTPstatus.SUCCESSFUL) {
+                try {
+                    RealmDto read = RealmDto.of(response);
+                    String version = read.version();
+                    String locale = read.locale();
+                    if (version != null && locale != null) {
+                        return new Realm(version, locale, 0);
+                    }
+                } catch (IllegalArgumentException e) {
+                    //malformed, so remembered as missing
+                }
+            }
+            return new Realm(null, null, System.nanoTime() + REALM_RETRY);
+        }
+        
+        /*
+         * A missing realm is asked for again once it is REALM_RETRY old.
+         */
+        boolean stale(long now) {
+            return version == null && now - retryAt >= 0;
+        }
+        
+    }
+    
+}
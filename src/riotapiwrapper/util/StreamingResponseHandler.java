@@ -0,0 +1,60 @@
+package riotapiwrapper.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import riotapiwrapper.request.Response;
+
+/**
+ * A {@code ResponseHandler} that reads a response's body while it is still
+ * arriving, instead of after it has been received in full. Large responses,
+ * like matches with their timelines or every item's static data, can then be
+ * parsed or written to disk a piece at a time with bounded memory.
+ * <p>
+ * Successful responses are streamed when the handler is given to the arbiter
+ * that sends the request, either straight or through a {@code SingleFlight}.
+ * Responses from the API server that are
+ * not successful are always received in full first, so an arbiter can decide
+ * to retry them, and arbiters that keep responses, like a
+ * {@code ResponseCache}, need the whole body as well. Responses received in
+ * full are handed to {@code operate(Response)}, which by default streams
+ * their body from memory, so a handler only has to implement
+ * {@code operate(Response, InputStream)} to see every response.
+ * 
+ * @see     riotapiwrapper.request.Transport#fetch(String,
+ *          riotapiwrapper.request.RequestType, StreamingResponseHandler)
+ */
+public interface StreamingResponseHandler extends ResponseHandler {
+    
+    /**
+     * Handles a response while its body is being received. The given
+     * {@code Response} holds the status, headers and time to the first byte,
+     * but not the body, which is read from the stream. The stream is closed
+     * once this returns, and reading it fails if the whole body is not
+     * received within the {@code Transport}'s read timeout.
+     * 
+     * @param response  The status and headers of the response.
+     * @param body      The body of the response, decompressed.
+     * @throws  IOException if the body could not be read or handled.
+     */
+    public void operate(Response response, InputStream body)
+            throws IOException;
+    
+    /**
+     * Handles a response that was received in full, by streaming its body
+     * from memory to {@code operate(Response, InputStream)}.
+     * 
+     * @param response  {@code Response} to be handled.
+     * @throws  UncheckedIOException if handling the body failed.
+     */
+    @Override
+    public default void operate(Response response) {
+        try (InputStream body = response.stream()) {
+            operate(response, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+}
@@ -0,0 +1,87 @@
+package riotapiwrapper.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.request.Summoner;
+
+/**
+ * Combines single summoner lookups into requests for up to 40 summoners at a
+ * time, so many callers each looking up one summoner only use one request of
+ * your API key's rate limits between them.
+ * <p>
+ * Lookups are held for a short window after the first one comes in, or until
+ * 40 different summoners are waiting, then sent together through the client's
+ * {@code makeRequestAsync()}. Each caller's future is completed with a
+ * {@code Response} holding only the summoner it asked for, in the same form
+ * as if it had been requested on its own. Summoners missing from the combined
+ * response get a {@code HTTPstatus.DATA_NOT_FOUND} response, and errors for
+ * the combined request are passed on to every caller in it.
+ * <p>
+ * Lookups by id and by name are batched separately. Names are matched to the
+ * response the way the API server keys them, in lower case without spaces.
+ * 
+ * @see     BatchCoalescer
+ * @see     Summoner#byIds(LolClient, int...)
+ * @see     Summoner#byName(LolClient, String...)
+ */
+public class SummonerBatcher {
+    
+    private final BatchCoalescer coalescer;
+    
+    /**
+     * Creates a {@code SummonerBatcher} that holds lookups for 10
+     * milliseconds before sending them.
+     * 
+     * @param client    The client to send the combined requests with.
+     * @throws  NullPointerException if client is null.
+     */
+    public SummonerBatcher(LolClient client) {
+        coalescer = new BatchCoalescer(client);
+    }
+    
+    /**
+     * Creates a {@code SummonerBatcher} that holds lookups for the given
+     * window before sending them.
+     * 
+     * @param client    The client to send the combined requests with.
+     * @param window    How long to hold lookups after the first one.
+     * @param unit      The unit of the window.
+     * @throws  NullPointerException if client is null.
+     * @throws  IllegalArgumentException if window is below 0.
+     */
+    public SummonerBatcher(LolClient client, long window, TimeUnit unit) {
+        coalescer = new BatchCoalescer(client, window, unit);
+    }
+    
+    /**
+     * Looks up a summoner's basic data by id.
+     * 
+     * @param id    The id of the summoner.
+     * @return      A future completed with the summoner's data.
+     */
+    public CompletableFuture<Response> byId(int id) {
+        return coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, id);
+    }
+    
+    /**
+     * Looks up a summoner's basic data by name.
+     * 
+     * @param name  The name of the summoner.
+     * @return      A future completed with the summoner's data.
+     */
+    public CompletableFuture<Response> byName(String name) {
+        return coalescer.submit(BatchEndpoint.SUMMONER_BY_NAME, name);
+    }
+    
+    /**
+     * Sends every lookup waiting right now without waiting for the rest of
+     * their window.
+     */
+    public void flush() {
+        coalescer.flush();
+    }
+    
+}
@@ -0,0 +1,22 @@
+package riotapiwrapper;
+
+import riotapiwrapper.util.BatchCoalescerTest;
+import riotapiwrapper.util.JsonReaderTest;
+import riotapiwrapper.util.MatchStoreTest;
+import riotapiwrapper.util.RateLimitStressTest;
+import riotapiwrapper.util.ResponseCacheTest;
+
+/**
+ * Runs every test, stopping at the first failure.
+ */
+public class AllTests {
+    
+    public static void main(String[] args) throws Exception {
+        BatchCoalescerTest.main(args);
+        JsonReaderTest.main(args);
+        MatchStoreTest.main(args);
+        RateLimitStressTest.main(args);
+        ResponseCacheTest.main(args);
+    }
+    
+}
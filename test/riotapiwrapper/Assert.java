@@ -0,0 +1,54 @@
+package riotapiwrapper;
+
+import java.util.Objects;
+
+/**
+ * The checks used by the tests, which are plain programs run with
+ * {@code java} so that they need nothing but the JDK. A failed check throws
+ * an {@code AssertionError}, which ends the test with its message.
+ */
+public final class Assert {
+    
+    private Assert() { }
+    
+    /**
+     * Fails with the message unless the condition holds.
+     * 
+     * @param condition The condition to check.
+     * @param message   What went wrong if it does not hold.
+     */
+    public static void check(boolean condition, String message) {
+        if (!condition) throw new AssertionError(message);
+    }
+    
+    /**
+     * Fails unless the two values are equal.
+     * 
+     * @param expected  The expected value.
+     * @param actual    The value to check.
+     */
+    public static void equal(Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError("expected " + expected + " but was "
+                    + actual);
+        }
+    }
+    
+    /**
+     * Fails unless running the code throws an exception of the given type.
+     * 
+     * @param type  The type of exception expected.
+     * @param code  The code to run.
+     */
+    public static void fails(Class<? extends Throwable> type, Runnable code) {
+        try {
+            code.run();
+        } catch (Throwable e) {
+            if (type.isInstance(e)) return;
+            throw new AssertionError("expected " + type.getSimpleName()
+                    + " but was " + e, e);
+        }
+        throw new AssertionError("expected " + type.getSimpleName());
+    }
+    
+}
@@ -0,0 +1,182 @@
+package riotapiwrapper.request;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast response bodies are read, comparing the old way of
+ * reading them a char at a time through a {@code Reader} with
+ * {@code BodyReader}, on a generated match with its timeline of about
+ * 700 KB.
+ * <p>
+ * The body is handed over in 16 KB reads, like a socket would. Each way is
+ * warmed up for 2 seconds and then timed over 5 rounds of a second, and the
+ * throughput of each round is printed. The repo has no build to run JMH
+ * with, so this is a plain program:
+ * <pre>
+ * java -cp out:test-out riotapiwrapper.request.BodyReaderBenchmark
+ * </pre>
+ */
+public class BodyReaderBenchmark {
+    
+    private static final int CHUNK = 16 * 1024;
+    private static final int ROUNDS = 5;
+    
+    //keeps the results alive so the work is not optimized away
+    static volatile long sink;
+    
+    interface Way {
+        long read(byte[] body) throws IOException;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        byte[] body = match(new Random(42));
+        System.out.printf("body of %d KB%n", body.length / 1024);
+        run("per-char Reader to String (before)", body, b -> {
+            Reader reader = new BufferedReader(new InputStreamReader(
+                    stream(b), StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                sb.append((char) c);
+            }
+            return sb.toString().length();
+        });
+        run("BodyReader with Content-Length to String", body, b -> {
+            return response(BodyReader.readAll(stream(b), b.length))
+                    .data().length();
+        });
+        run("BodyReader without Content-Length to String", body, b -> {
+            return response(BodyReader.readAll(stream(b), -1))
+                    .data().length();
+        });
+        run("BodyReader with Content-Length, bytes only", body, b -> {
+            return response(BodyReader.readAll(stream(b), b.length))
+                    .bytes().remaining();
+        });
+    }
+    
+    private static void run(String name, byte[] body, Way way)
+            throws IOException {
+        long warmup = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (System.nanoTime() - warmup < 0) {
+            sink += way.read(body);
+        }
+        System.out.println(name);
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(1);
+            long reads = 0;
+            long now;
+            do {
+                sink += way.read(body);
+                ++reads;
+                now = System.nanoTime();
+            } while (now - end < 0);
+            double seconds = (now - start) / 1e9;
+            System.out.printf("  %8.1f MB/s  %6.0f us/body%n",
+                    reads * body.length / seconds / 1e6,
+                    seconds * 1e6 / reads);
+        }
+    }
+    
+    private static Response response(ByteBuffer body) {
+        return new Response("", body, 200,
+                Collections.<String, String>emptyMap(), 0, 0,
+                RequestType.MATCH);
+    }
+    
+    /*
+     * A stream of the body that hands out at most CHUNK bytes a read.
+     */
+    private static InputStream stream(byte[] body) {
+        return new ByteArrayInputStream(body) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, CHUNK));
+            }
+        };
+    }
+    
+    /*
+     * A match with ten participants and a timeline of 40 frames, shaped like
+     * the API server's, with some names outside of ASCII.
+     */
+    private static byte[] match(Random random) {
+        String[] names = {"Faker", "Se\u00f1or Pingu",
+                "\u00c6r\u00f8sk\u00f8bing", "\uc2dc\uc98c", "Doublelift",
+                "\u041c\u0430\u0441\u0442\u0435\u0440", "Bjergsen",
+                "\u30d4\u30ab\u30c1\u30e5\u30a6", "Uzi", "Zo\u00eb"};
+        StringBuilder json = new StringBuilder();
+        json.append("{\"matchId\":1865383426,\"region\":\"NA\",")
+                .append("\"queueType\":\"RANKED_SOLO_5x5\",")
+                .append("\"matchDuration\":2412,\"participantIdentities\":[");
+        for (int p = 0; p < 10; p++) {
+            if (p > 0) json.append(',');
+            json.append("{\"participantId\":").append(p + 1)
+                    .append(",\"player\":{\"summonerName\":\"")
+                    .append(names[p]).append("\",\"summonerId\":")
+                    .append(20000000 + random.nextInt(1000000)).append("}}");
+        }
+        json.append("],\"participants\":[");
+        for (int p = 0; p < 10; p++) {
+            if (p > 0) json.append(',');
+            json.append("{\"participantId\":").append(p + 1)
+                    .append(",\"championId\":").append(random.nextInt(130))
+                    .append(",\"stats\":{");
+            for (int s = 0; s < 60; s++) {
+                if (s > 0) json.append(',');
+                json.append("\"stat").append(s).append("\":")
+                        .append(random.nextInt(100000));
+            }
+            json.append("}}");
+        }
+        json.append("],\"timeline\":{\"frameInterval\":60000,\"frames\":[");
+        for (int f = 0; f < 40; f++) {
+            if (f > 0) json.append(',');
+            json.append("{\"timestamp\":").append(f * 60000)
+                    .append(",\"participantFrames\":{");
+            for (int p = 1; p <= 10; p++) {
+                if (p > 1) json.append(',');
+                json.append('"').append(p).append("\":{\"participantId\":")
+                        .append(p).append(",\"position\":{\"x\":")
+                        .append(random.nextInt(15000)).append(",\"y\":")
+                        .append(random.nextInt(15000))
+                        .append("},\"currentGold\":")
+                        .append(random.nextInt(5000))
+                        .append(",\"totalGold\":")
+                        .append(random.nextInt(20000)).append(",\"level\":")
+                        .append(1 + random.nextInt(18)).append(",\"xp\":")
+                        .append(random.nextInt(20000))
+                        .append(",\"minionsKilled\":")
+                        .append(random.nextInt(300))
+                        .append(",\"jungleMinionsKilled\":")
+                        .append(random.nextInt(100)).append('}');
+            }
+            json.append("},\"events\":[");
+            for (int e = 0; e < 200; e++) {
+                if (e > 0) json.append(',');
+                json.append("{\"eventType\":\"ITEM_PURCHASED\",")
+                        .append("\"timestamp\":")
+                        .append(f * 60000 + random.nextInt(60000))
+                        .append(",\"participantId\":")
+                        .append(1 + random.nextInt(10))
+                        .append(",\"itemId\":")
+                        .append(1000 + random.nextInt(3000)).append('}');
+            }
+            json.append("]}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+}
@@ -0,0 +1,239 @@
+package riotapiwrapper.util;
+
+import static riotapiwrapper.Assert.check;
+import static riotapiwrapper.Assert.equal;
+import static riotapiwrapper.Assert.fails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.request.Transport;
+
+/**
+ * Checks that a {@code BatchCoalescer} combines lookups into as few requests
+ * as the endpoints allow, and hands each caller just the part of the combined
+ * response it asked for.
+ * <p>
+ * The requests are answered by a fake server that knows every id below 1000
+ * and answers with an error for the id 429 and with malformed JSON for the
+ * id 666.
+ */
+public class BatchCoalescerTest {
+    
+    private static final String KEY = "abcdefgh-abcd-abcd-abcd-abcdefghijkl";
+    
+    public static void main(String[] args) throws Exception {
+        combine();
+        normalize();
+        names();
+        full();
+        window();
+        errors();
+        System.out.println("BatchCoalescerTest passed");
+    }
+    
+    private static void combine() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client(), 1,
+                TimeUnit.MINUTES);
+        List<CompletableFuture<Response>> futures =
+                new ArrayList<CompletableFuture<Response>>();
+        for (int id = 1; id <= 5; id++) {
+            futures.add(coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, id));
+        }
+        CompletableFuture<Response> missing =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 1000);
+        coalescer.flush();
+        for (int id = 1; id <= 5; id++) {
+            Response response = get(futures.get(id - 1));
+            equal(HTTPstatus.SUCCESSFUL, response.status);
+            equal(summoner(String.valueOf(id)), response.data());
+        }
+        Response response = get(missing);
+        equal(HTTPstatus.DATA_NOT_FOUND, response.status);
+        equal("[[1, 2, 3, 4, 5, 1000]]", server.batches.toString());
+    }
+    
+    /*
+     * Numeric ids are looked up as the number they parse to, so the same id
+     * written differently takes one place in the request.
+     */
+    private static void normalize() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client(), 1,
+                TimeUnit.MINUTES);
+        CompletableFuture<Response> padded =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, "007");
+        CompletableFuture<Response> plain =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, "7");
+        CompletableFuture<Response> number =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 7);
+        CompletableFuture<Response> signed =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, "+8");
+        coalescer.flush();
+        equal(summoner("7"), get(padded).data());
+        equal(summoner("7"), get(plain).data());
+        equal(summoner("7"), get(number).data());
+        equal(summoner("8"), get(signed).data());
+        equal("[[7, 8]]", server.batches.toString());
+        fails(IllegalArgumentException.class,
+                () -> coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, "seven"));
+    }
+    
+    /*
+     * Names are keyed the way the server keys them, in lower case without
+     * spaces.
+     */
+    private static void names() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client(), 1,
+                TimeUnit.MINUTES);
+        CompletableFuture<Response> spaced =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_NAME, "Doub Lift");
+        CompletableFuture<Response> lower =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_NAME, "doublift");
+        CompletableFuture<Response> other =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_NAME, "Bjergsen");
+        coalescer.flush();
+        equal(summoner("doublift"), get(spaced).data());
+        equal(summoner("doublift"), get(lower).data());
+        equal(summoner("bjergsen"), get(other).data());
+        equal("[[doublift, bjergsen]]", server.batches.toString());
+    }
+    
+    /*
+     * A batch is sent as soon as it holds the endpoint's most ids, without
+     * waiting for its window.
+     */
+    private static void full() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client(), 1,
+                TimeUnit.MINUTES);
+        int max = BatchEndpoint.SUMMONER_BY_ID.MAX_IDS;
+        List<CompletableFuture<Response>> futures =
+                new ArrayList<CompletableFuture<Response>>();
+        for (int id = 0; id < 2 * max + 5; id++) {
+            futures.add(coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, id));
+        }
+        for (int id = 0; id < 2 * max; id++) {
+            equal(summoner(String.valueOf(id)), get(futures.get(id)).data());
+        }
+        equal(2, server.batches.size());
+        for (List<String> batch : server.batches) {
+            equal(max, batch.size());
+        }
+        check(!futures.get(2 * max).isDone(), "sent before its window");
+        coalescer.flush();
+        for (int id = 2 * max; id < futures.size(); id++) {
+            equal(summoner(String.valueOf(id)), get(futures.get(id)).data());
+        }
+        equal(3, server.batches.size());
+    }
+    
+    private static void window() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client());
+        CompletableFuture<Response> first =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 1);
+        CompletableFuture<Response> second =
+                coalescer.submit(BatchEndpoint.LEAGUE_BY_SUMMONER, 2);
+        CompletableFuture<Response> third =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 3);
+        equal(summoner("1"), get(first).data());
+        equal(summoner("2"), get(second).data());
+        equal(summoner("3"), get(third).data());
+        equal(2, server.batches.size());
+        check(server.batches.contains(Arrays.asList("1", "3")),
+                "lookups of one endpoint were not combined");
+    }
+    
+    private static void errors() throws Exception {
+        Server server = new Server();
+        BatchCoalescer coalescer = new BatchCoalescer(server.client(), 1,
+                TimeUnit.MINUTES);
+        CompletableFuture<Response> limited =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 429);
+        CompletableFuture<Response> along =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 1);
+        coalescer.flush();
+        equal(HTTPstatus.RATE_LIMIT_EXCEEDED, get(limited).status);
+        equal(HTTPstatus.RATE_LIMIT_EXCEEDED, get(along).status);
+        
+        CompletableFuture<Response> malformed =
+                coalescer.submit(BatchEndpoint.SUMMONER_BY_ID, 666);
+        coalescer.flush();
+        try {
+            malformed.get(10, TimeUnit.SECONDS);
+            throw new AssertionError("malformed response was split");
+        } catch (ExecutionException e) {
+            check(e.getCause() instanceof IllegalArgumentException,
+                    "failed with " + e.getCause());
+        }
+        
+        fails(NullPointerException.class, () -> new BatchCoalescer(null));
+        fails(IllegalArgumentException.class, () -> new BatchCoalescer(
+                server.client(), -1, TimeUnit.MILLISECONDS));
+    }
+    
+    private static Response get(CompletableFuture<Response> future)
+            throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+    
+    private static String summoner(String id) {
+        return "{\"" + id + "\":{\"id\":\"" + id + "\",\"level\":30}}";
+    }
+    
+    /*
+     * Answers requests for lists of ids with an object keyed by each id it
+     * knows, and records the ids of every request.
+     */
+    private static final class Server implements Transport {
+        
+        final ConcurrentLinkedQueue<List<String>> batches =
+                new ConcurrentLinkedQueue<List<String>>();
+        
+        LolClient client() {
+            return new LolClient(KEY, new DefaultThrottle(1000, 1, 1000, 1))
+                    .withTransport(this);
+        }
+        
+        @Override
+        public Response fetch(String url, RequestType type) {
+            String path = url.substring(0, url.indexOf('?'))
+                    .replaceFirst("/entry$", "");
+            List<String> ids = Arrays.asList(path.substring(
+                    path.lastIndexOf('/') + 1).split(","));
+            batches.add(ids);
+            if (ids.contains("429")) {
+                return new Response(url, "", HTTPstatus.RATE_LIMIT_EXCEEDED,
+                        type);
+            }
+            if (ids.contains("666")) {
+                return new Response(url, "[]", HTTPstatus.SUCCESSFUL, type);
+            }
+            StringBuilder json = new StringBuilder("{");
+            for (String id : ids) {
+                if (id.matches("\\d+") && Integer.parseInt(id) >= 1000) {
+                    continue;
+                }
+                if (json.length() > 1) json.append(',');
+                json.append('"').append(id).append("\":{\"id\":\"")
+                        .append(id).append("\",\"level\":30}");
+            }
+            return new Response(url, json.append('}').toString(),
+                    HTTPstatus.SUCCESSFUL, type);
+        }
+        
+    }
+    
+}
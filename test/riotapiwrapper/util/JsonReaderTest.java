@@ -0,0 +1,241 @@
+package riotapiwrapper.util;
+
+import static riotapiwrapper.Assert.check;
+import static riotapiwrapper.Assert.equal;
+import static riotapiwrapper.Assert.fails;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import riotapiwrapper.util.JsonReader.Token;
+
+/**
+ * Checks that {@code JsonReader} reads every type of token, from heap, read
+ * only and direct buffers alike, and that {@code JsonFields} splits an object
+ * into the raw bytes of its fields and joins them back up.
+ */
+public class JsonReaderTest {
+    
+    private static final String DOCUMENT = "{\"id\": 19827, \"name\": "
+            + "\"Se\u00f1or \\\"Pingu\\\" \\u00e9\\n\", \"level\": 30,"
+            + " \"big\": 9007199254740993, \"quoted\": \"42\","
+            + " \"ratio\": -1.5e2, \"won\": true, \"lost\": false,"
+            + " \"team\": null, \"skipped\": {\"a\": [1, \"]}\", {}]},"
+            + " \"list\": [], \"korean\": \"\uc2dc\uc98c\"}";
+    
+    public static void main(String[] args) {
+        byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+        read(ByteBuffer.wrap(bytes));
+        read(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        read(direct);
+        offset();
+        names();
+        numbers();
+        raw();
+        longStrings();
+        errors();
+        split();
+        System.out.println("JsonReaderTest passed");
+    }
+    
+    private static void read(ByteBuffer buffer) {
+        JsonReader reader = new JsonReader(buffer);
+        equal(Token.BEGIN_OBJECT, reader.peek());
+        reader.beginObject();
+        equal("id", reader.nextName());
+        equal(Token.NUMBER, reader.peek());
+        equal(19827, reader.nextInt());
+        equal("name", reader.nextName());
+        equal("Se\u00f1or \"Pingu\" \u00e9\n", reader.nextString());
+        equal("level", reader.nextName());
+        equal(30L, reader.nextLong());
+        equal("big", reader.nextName());
+        equal(9007199254740993L, reader.nextLong());
+        equal("quoted", reader.nextName());
+        equal(42, reader.nextInt());
+        equal("ratio", reader.nextName());
+        equal(-150.0, reader.nextDouble());
+        equal("won", reader.nextName());
+        equal(true, reader.nextBoolean());
+        equal("lost", reader.nextName());
+        equal(false, reader.nextBoolean());
+        equal("team", reader.nextName());
+        equal(Token.NULL, reader.peek());
+        reader.nextNull();
+        equal(Token.NAME, reader.peek());
+        reader.skipValue();
+        equal("list", reader.nextName());
+        reader.beginArray();
+        check(!reader.hasNext(), "empty array has a next value");
+        reader.endArray();
+        equal("korean", reader.nextName());
+        equal("\uc2dc\uc98c", reader.nextString());
+        check(!reader.hasNext(), "object has a next field after the last");
+        reader.endObject();
+        equal(Token.END_DOCUMENT, reader.peek());
+        equal(0, buffer.position());
+    }
+    
+    /*
+     * Only the bytes from the buffer's position to its limit are read.
+     */
+    private static void offset() {
+        byte[] bytes = "xx[1,\"\u00e9\"]yy".getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes),
+                ByteBuffer.wrap(bytes).asReadOnlyBuffer()}) {
+            buffer.position(2).limit(bytes.length - 2);
+            JsonReader reader = new JsonReader(buffer.slice());
+            reader.beginArray();
+            equal(1, reader.nextInt());
+            equal("\u00e9", reader.nextString());
+            reader.endArray();
+            equal(Token.END_DOCUMENT, reader.peek());
+        }
+    }
+    
+    private static void names() {
+        byte[][] names = {bytes("level"), bytes("name"), bytes("id")};
+        JsonReader reader = new JsonReader(ByteBuffer.wrap(bytes(DOCUMENT))
+                .asReadOnlyBuffer());
+        reader.beginObject();
+        int[] found = new int[4];
+        while (reader.hasNext()) {
+            int i = reader.nextName(names);
+            found[i + 1]++;
+            reader.skipValue();
+        }
+        reader.endObject();
+        equal("[9, 1, 1, 1]", Arrays.toString(found));
+        reader = new JsonReader(ByteBuffer.wrap(bytes("{\"l\\u0065vel\":1}")));
+        reader.beginObject();
+        equal(0, reader.nextName(names));
+    }
+    
+    private static void numbers() {
+        equal(1000L, reader("1e3").nextLong());
+        equal(-7L, reader("-7").nextLong());
+        equal(Long.MIN_VALUE, reader("-9223372036854775808").nextLong());
+        equal("0.25", reader("0.25").nextString());
+        fails(NumberFormatException.class, () -> reader("1.5").nextLong());
+        fails(NumberFormatException.class,
+                () -> reader("9223372036854775808").nextLong());
+        fails(NumberFormatException.class, () -> reader("1e19").nextLong());
+        fails(NumberFormatException.class, () -> reader("\"a\"").nextLong());
+        fails(NumberFormatException.class,
+                () -> reader("2147483648").nextInt());
+    }
+    
+    private static void raw() {
+        JsonReader reader = reader("{\"a\": {\"b\": [1, 2]}, \"c\": \"d\"}");
+        reader.beginObject();
+        equal("a", reader.nextName());
+        ByteBuffer raw = reader.nextRaw();
+        check(raw.isReadOnly(), "raw value is writable");
+        equal("{\"b\": [1, 2]}", string(raw));
+        equal("c", reader.nextName());
+        equal("\"d\"", string(reader.nextRaw()));
+        reader.endObject();
+        JsonReader inner = new JsonReader(raw);
+        inner.beginObject();
+        equal("b", inner.nextName());
+        inner.skipValue();
+        inner.endObject();
+    }
+    
+    /*
+     * Strings longer than the array kept for copying them, one after the
+     * other, so a copy left over from a longer string is not read again.
+     */
+    private static void longStrings() {
+        char[] filler = new char[20000];
+        Arrays.fill(filler, '\u00e9');
+        String longer = new String(filler);
+        String shorter = longer.substring(0, 100);
+        String json = "[\"" + longer + "\",\"" + shorter + "\",\"abc\"]";
+        JsonReader reader = new JsonReader(ByteBuffer.wrap(bytes(json))
+                .asReadOnlyBuffer());
+        reader.beginArray();
+        equal(longer, reader.nextString());
+        equal(shorter, reader.nextString());
+        equal("abc", reader.nextString());
+        reader.endArray();
+    }
+    
+    private static void errors() {
+        fails(IllegalArgumentException.class, () -> reader("").peek());
+        fails(IllegalArgumentException.class, () -> {
+            JsonReader reader = reader("{\"a\" 1}");
+            reader.beginObject();
+            reader.nextName();
+            reader.peek();
+        });
+        fails(IllegalArgumentException.class, () -> {
+            JsonReader reader = reader("[1 2]");
+            reader.beginArray();
+            reader.nextInt();
+            reader.hasNext();
+        });
+        fails(IllegalArgumentException.class,
+                () -> reader("[\"abc").skipValue());
+        fails(IllegalArgumentException.class,
+                () -> reader("[[1]").skipValue());
+        fails(IllegalArgumentException.class, () -> {
+            JsonReader reader = reader("[1] 2");
+            reader.skipValue();
+            reader.peek();
+        });
+        fails(IllegalArgumentException.class,
+                () -> reader("tru").nextBoolean());
+        fails(IllegalArgumentException.class, () -> reader("@").peek());
+        fails(IllegalStateException.class, () -> reader("[1]").beginObject());
+        fails(IllegalStateException.class, () -> reader("\"a\"").nextBoolean());
+        fails(IllegalStateException.class, () -> {
+            JsonReader reader = reader("{\"a\":1}");
+            reader.beginObject();
+            reader.nextRaw();
+        });
+    }
+    
+    private static void split() {
+        String json = "{\"19827\": {\"id\": 19827, \"name\": \"a}\"},"
+                + " \"he said \\\"hi\\\"\": [1, {\"x\": null}],"
+                + " \"none\": null}";
+        Map<String, ByteBuffer> fields = JsonFields.split(
+                ByteBuffer.wrap(bytes(json)).asReadOnlyBuffer());
+        equal("[19827, he said \"hi\", none]", fields.keySet().toString());
+        equal("{\"id\": 19827, \"name\": \"a}\"}",
+                string(fields.get("19827")));
+        equal("[1, {\"x\": null}]", string(fields.get("he said \"hi\"")));
+        equal("null", string(fields.get("none")));
+        
+        ByteBuffer joined = JsonFields.join("he said \"hi\"",
+                fields.get("he said \"hi\""));
+        equal("{\"he said \\\"hi\\\"\":[1, {\"x\": null}]}", string(joined));
+        Map<String, ByteBuffer> again = JsonFields.split(joined);
+        equal("[he said \"hi\"]", again.keySet().toString());
+        
+        check(JsonFields.split(ByteBuffer.wrap(bytes(" {} "))).isEmpty(),
+                "empty object has fields");
+        fails(IllegalArgumentException.class,
+                () -> JsonFields.split(ByteBuffer.wrap(bytes("[1]"))));
+        fails(IllegalArgumentException.class,
+                () -> JsonFields.split(ByteBuffer.wrap(bytes("{\"a\":"))));
+    }
+    
+    private static JsonReader reader(String json) {
+        return new JsonReader(ByteBuffer.wrap(bytes(json)));
+    }
+    
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static String string(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+    }
+    
+}
@@ -0,0 +1,289 @@
+package riotapiwrapper.util;
+
+import static riotapiwrapper.Assert.check;
+import static riotapiwrapper.Assert.equal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.Regions;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Match;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.Response;
+
+/**
+ * Checks that a {@code MatchStore} keeps every match it is given across many
+ * small segments, finds them all again when its directory is opened anew,
+ * answers a request for a match without its timeline with the match and its
+ * timeline, and recovers cleanly from a record that was only partly written.
+ */
+public class MatchStoreTest {
+    
+    private static final String KEY = "abcdefgh-abcd-abcd-abcd-abcdefghijkl";
+    private static final int SEGMENT = 200;
+    private static final int MATCHES = 1500;
+    
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("match-store");
+        try {
+            rollover(directory.resolve("rollover"));
+            timeline(directory.resolve("timeline"));
+            torn(directory.resolve("torn"));
+            truncated(directory.resolve("truncated"));
+        } finally {
+            delete(directory);
+        }
+        System.out.println("MatchStoreTest passed");
+    }
+    
+    /*
+     * Far more matches than fit in one segment, or in the index's first
+     * table, and every third one also with its timeline.
+     */
+    private static void rollover(Path directory) throws IOException {
+        MatchStore store = new MatchStore(directory, new Direct(),
+                SEGMENT);
+        for (int id = 0; id < MATCHES; id++) {
+            check(store.put(Regions.NA, id, false, match(id, false)),
+                    "match " + id + " was not stored");
+            if (id % 3 == 0) {
+                check(store.put(Regions.NA, id, true, match(id, true)),
+                        "timeline " + id + " was not stored");
+            }
+        }
+        check(!store.put(Regions.NA, 7, false, "again"),
+                "a stored match was stored again");
+        check(!store.put(Regions.NA, MATCHES, false,
+                new String(new char[SEGMENT]).replace('\0', 'x')),
+                "a match larger than a segment was stored");
+        int stored = MATCHES + (MATCHES + 2) / 3;
+        equal(stored, store.size(Regions.NA));
+        equal(0, store.size(Regions.EUW));
+        long segments;
+        try (Stream<Path> files = Files.list(
+                directory.resolve(Regions.NA.ABREV))) {
+            segments = files.count();
+        }
+        check(segments > 100, segments + " segments");
+        everything(store, MATCHES);
+        
+        //reopened, and written to from where the last segment ended
+        store = new MatchStore(directory, new Direct(), SEGMENT);
+        equal(stored, store.size(Regions.NA));
+        everything(store, MATCHES);
+        for (int id = MATCHES; id < MATCHES + 10; id++) {
+            store.put(Regions.NA, id, false, match(id, false));
+        }
+        store.force();
+        store = new MatchStore(directory, new Direct(), SEGMENT);
+        equal(stored + 10, store.size(Regions.NA));
+        everything(store, MATCHES + 10);
+    }
+    
+    private static void timeline(Path directory) throws IOException {
+        Direct direct = new Direct();
+        MatchStore store = new MatchStore(directory, direct, SEGMENT);
+        LolClient client = new LolClient(KEY, store);
+        store.put(Regions.NA, 1, true, match(1, true));
+        equal(match(1, true), store.get(Regions.NA, 1, false));
+        equal(match(1, true), store.get(Regions.NA, 1, true));
+        Response stored = get(store, Match.match(client, 1, false));
+        equal(match(1, true), stored.data());
+        equal(0, direct.sends.get());
+        
+        //only the match without its timeline is not enough for the timeline
+        store.put(Regions.NA, 2, false, match(2, false));
+        equal(null, store.get(Regions.NA, 2, true));
+        Response sent = get(store, Match.match(client, 2, true));
+        equal(1, direct.sends.get());
+        equal(match(2, true), sent.data());
+        equal(match(2, true), store.get(Regions.NA, 2, true));
+        equal(match(2, false), store.get(Regions.NA, 2, false));
+        get(store, Match.match(client, 2, true));
+        equal(1, direct.sends.get());
+        
+        //once stored on its own, the match without its timeline is preferred
+        store.put(Regions.NA, 1, false, match(1, false));
+        equal(match(1, false), store.get(Regions.NA, 1, false));
+        equal(match(1, true), store.get(Regions.NA, 1, true));
+        
+        equal(null, store.get(Regions.EUW, 1, false));
+        direct.status = HTTPstatus.DATA_NOT_FOUND;
+        get(store, Match.match(client, 3, false));
+        equal(null, store.get(Regions.NA, 3, false));
+    }
+    
+    /*
+     * The process died while writing a record, after its key and some of
+     * its data but before its length. Then a length that runs past the end
+     * of the segment, as if it were read from garbage.
+     */
+    private static void torn(Path directory) throws IOException {
+        MatchStore store = new MatchStore(directory, new Direct(), 1000);
+        store.put(Regions.NA, 1, false, "first");
+        store.put(Regions.NA, 2, false, "second");
+        int tail = 12 + "first".length() + 12 + "second".length();
+        Path segment = segment(directory);
+        ByteBuffer partial = ByteBuffer.allocate(12 + 3);
+        partial.putInt(0).putLong(3L << 1)
+                .put("thi".getBytes(StandardCharsets.UTF_8)).flip();
+        write(segment, tail, partial);
+        
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(2, store.size(Regions.NA));
+        equal("first", store.get(Regions.NA, 1, false));
+        equal("second", store.get(Regions.NA, 2, false));
+        equal(null, store.get(Regions.NA, 3, false));
+        check(store.put(Regions.NA, 3, false, "third"),
+                "the torn match was not stored again");
+        store.force();
+        
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(3, store.size(Regions.NA));
+        equal("third", store.get(Regions.NA, 3, false));
+        
+        tail += 12 + "third".length();
+        ByteBuffer garbage = ByteBuffer.allocate(12);
+        garbage.putInt(1000).putLong(4L << 1).flip();
+        write(segment, tail, garbage);
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(3, store.size(Regions.NA));
+        equal(null, store.get(Regions.NA, 4, false));
+        check(store.put(Regions.NA, 4, false, "fourth"),
+                "the match after the garbage was not stored");
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(4, store.size(Regions.NA));
+        equal("fourth", store.get(Regions.NA, 4, false));
+    }
+    
+    /*
+     * The last segment file was cut off in the middle of a record, so its
+     * length is there but not all of its data.
+     */
+    private static void truncated(Path directory) throws IOException {
+        MatchStore store = new MatchStore(directory, new Direct(), 1000);
+        store.put(Regions.NA, 1, false, "first");
+        store.put(Regions.NA, 2, false, "second");
+        store.force();
+        Path segment = segment(directory);
+        try (FileChannel channel = FileChannel.open(segment,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(12 + "first".length() + 12 + 3);
+        }
+        
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(1, store.size(Regions.NA));
+        equal("first", store.get(Regions.NA, 1, false));
+        equal(null, store.get(Regions.NA, 2, false));
+        store.put(Regions.NA, 2, false, "second");
+        store = new MatchStore(directory, new Direct(), 1000);
+        equal(2, store.size(Regions.NA));
+        equal("second", store.get(Regions.NA, 2, false));
+    }
+    
+    /*
+     * Checks that the matches with ids below count, and the timelines of
+     * every third one, are all stored with their own data.
+     */
+    private static void everything(MatchStore store, int count)
+            throws IOException {
+        for (int id = 0; id < count; id++) {
+            equal(match(id, false), store.get(Regions.NA, id, false));
+            if (id % 3 == 0 && id < MATCHES) {
+                equal(match(id, true), store.get(Regions.NA, id, true));
+            } else {
+                equal(null, store.get(Regions.NA, id, true));
+            }
+        }
+        equal(null, store.get(Regions.NA, count, false));
+    }
+    
+    /*
+     * Returns a match's data, of a length that varies with its id.
+     */
+    private static String match(int id, boolean includeTimeline) {
+        StringBuilder match = new StringBuilder("{\"matchId\":").append(id);
+        for (int i = 0; i < id % 40; i++) {
+            match.append(' ');
+        }
+        if (includeTimeline) match.append(",\"timeline\":{}");
+        return match.append('}').toString();
+    }
+    
+    private static Path segment(Path directory) {
+        return directory.resolve(Regions.NA.ABREV).resolve("00000.seg");
+    }
+    
+    private static void write(Path file, long position, ByteBuffer bytes)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(bytes, position);
+        }
+    }
+    
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files
+                    .sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+    
+    private static Response get(MatchStore store, Request request) {
+        Response[] answer = new Response[1];
+        store.arbitrate(request, response -> answer[0] = response);
+        check(answer[0] != null, "no answer for " + request);
+        return answer[0];
+    }
+    
+    /*
+     * Answers every request at once on the calling thread with the match's
+     * data, and the status it is set to.
+     */
+    private static final class Direct implements RequestArbiter {
+        
+        final AtomicInteger sends = new AtomicInteger();
+        volatile HTTPstatus status = HTTPstatus.SUCCESSFUL;
+        
+        @Override
+        public void arbitrate(Request request, ResponseHandler handler) {
+            sends.incrementAndGet();
+            Match match = (Match) request;
+            handler.operate(new Response(request.url(KEY),
+                    match(match.id(), match.includesTimeline()), status,
+                    request.type()));
+        }
+        
+        @Override
+        public int numLimits() {
+            return 0;
+        }
+        
+        @Override
+        public void addLimit(int N, int T) { }
+        
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+        
+        @Override
+        public int backlog() {
+            return 0;
+        }
+        
+    }
+    
+}
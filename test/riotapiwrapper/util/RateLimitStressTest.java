@@ -0,0 +1,128 @@
+package riotapiwrapper.util;
+
+import static riotapiwrapper.Assert.check;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Match;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+import riotapiwrapper.request.Transport;
+
+/**
+ * Checks that no rate limit window ever holds more requests than its limit
+ * while many threads take permits at once, both straight from a
+ * {@code RateLimiter} and through a {@code DefaultThrottle}'s queue.
+ * <p>
+ * The times of the permits are read after they are taken, so a thread can
+ * be held up between the two. Windows are therefore checked 50 ms shorter
+ * than their limit, which is far less than the gap a broken limiter leaves.
+ */
+public class RateLimitStressTest {
+    
+    private static final int THREADS = 32;
+    private static final long SLACK = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final String KEY = "abcdefgh-abcd-abcd-abcd-abcdefghijkl";
+    
+    public static void main(String[] args) throws Exception {
+        limiter();
+        throttle();
+        System.out.println("RateLimitStressTest passed");
+    }
+    
+    /*
+     * Every thread spins on tryAcquire() for 2.5 seconds.
+     */
+    private static void limiter() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter();
+        limiter.addLimit(10, 1);
+        limiter.addLimit(25, 2);
+        ConcurrentLinkedQueue<Long> granted = new ConcurrentLinkedQueue<Long>();
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2500);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(() -> {
+                while (System.nanoTime() - end < 0) {
+                    if (limiter.tryAcquire()) granted.add(System.nanoTime());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long[] times = times(granted);
+        check(times.length >= 25, "only " + times.length + " permits given");
+        checkWindows(times, 10, 1);
+        checkWindows(times, 25, 2);
+    }
+    
+    /*
+     * Every thread arbitrates its share of 40 requests at once, so most of
+     * them wait in the queue and are sent on the client's I/O executor.
+     */
+    private static void throttle() throws InterruptedException {
+        ConcurrentLinkedQueue<Long> sent = new ConcurrentLinkedQueue<Long>();
+        Transport transport = new Transport() {
+            @Override
+            public Response fetch(String url, RequestType type) {
+                sent.add(System.nanoTime());
+                return new Response(url, "{}", HTTPstatus.SUCCESSFUL, type);
+            }
+        };
+        DefaultThrottle throttle = new DefaultThrottle(10, 1, 25, 3);
+        LolClient client = new LolClient(KEY, throttle)
+                .withTransport(transport);
+        int perThread = 5;
+        int requests = 8 * perThread;
+        CountDownLatch done = new CountDownLatch(requests);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            int first = i * perThread;
+            threads[i] = new Thread(() -> {
+                for (int id = first; id < first + perThread; id++) {
+                    throttle.arbitrate(Match.match(client, id, false),
+                            response -> done.countDown());
+                }
+            });
+            threads[i].start();
+        }
+        check(done.await(30, TimeUnit.SECONDS), done.getCount()
+                + " requests were never answered");
+        long[] times = times(sent);
+        check(times.length == requests, times.length + " requests sent");
+        checkWindows(times, 10, 1);
+        checkWindows(times, 25, 3);
+    }
+    
+    private static long[] times(ConcurrentLinkedQueue<Long> queue) {
+        long[] times = new long[queue.size()];
+        int i = 0;
+        for (long time : queue) {
+            times[i++] = time;
+        }
+        Arrays.sort(times);
+        return times;
+    }
+    
+    /*
+     * Fails if any window of T seconds, starting at one of the times, holds
+     * more than N of them.
+     */
+    private static void checkWindows(long[] times, int N, int T) {
+        long window = TimeUnit.SECONDS.toNanos(T) - SLACK;
+        for (int i = 0, j = 0; i < times.length; i++) {
+            while (j < times.length && times[j] - times[i] < window) {
+                ++j;
+            }
+            check(j - i <= N, (j - i) + " requests within " + T
+                    + " seconds, over the limit of " + N);
+        }
+    }
+    
+}
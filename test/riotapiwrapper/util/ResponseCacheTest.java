@@ -0,0 +1,325 @@
+package riotapiwrapper.util;
+
+import static riotapiwrapper.Assert.check;
+import static riotapiwrapper.Assert.equal;
+import static riotapiwrapper.Assert.fails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import riotapiwrapper.LolClient;
+import riotapiwrapper.request.HTTPstatus;
+import riotapiwrapper.request.Match;
+import riotapiwrapper.request.Request;
+import riotapiwrapper.request.RequestType;
+import riotapiwrapper.request.Response;
+
+/**
+ * Checks that a {@code ResponseCache} answers identical requests from the
+ * responses it keeps, for the types and times it is told to, without handing
+ * out the API key they were sent with, and that it stays within its bounds
+ * even when many threads use it at once.
+ */
+public class ResponseCacheTest {
+    
+    private static final String KEY = "abcdefgh-abcd-abcd-abcd-abcdefghijkl";
+    private static final String OTHER_KEY =
+            "zyxwvuts-zyxw-zyxw-zyxw-zyxwvutsrqpo";
+    private static final int BODY = 100;
+    private static final long ENTRY = 64 + BODY;
+    
+    public static void main(String[] args) throws InterruptedException {
+        hits();
+        statuses();
+        ttls();
+        invalidate();
+        bounds();
+        probation();
+        threads();
+        System.out.println("ResponseCacheTest passed");
+    }
+    
+    private static void hits() {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct);
+        LolClient client = client(KEY, cache);
+        Response sent = get(cache, Match.match(client, 1, false));
+        equal(Match.match(client, 1, false).toString(), sent.url);
+        Response cached = get(cache, Match.match(client, 1, false));
+        equal(1, direct.sends.get());
+        equal(1L, cache.hits());
+        equal(1L, cache.misses());
+        equal(sent.data(), cached.data());
+        equal(Match.match(client, 1, false).toString(), cached.url);
+        
+        //the same request from a client with another key is answered too,
+        //without the first client's key
+        LolClient other = client(OTHER_KEY, cache);
+        Response shared = get(cache, Match.match(other, 1, false));
+        equal(1, direct.sends.get());
+        check(!shared.url.contains(KEY), "the key was handed out");
+        
+        get(cache, Match.match(client, 1, true));
+        get(cache, Match.match(client, 2, false));
+        equal(3, direct.sends.get());
+        equal(3, cache.size());
+        equal(3 * ENTRY, cache.bytes());
+    }
+    
+    private static void statuses() {
+        Direct direct = new Direct(HTTPstatus.DATA_NOT_FOUND);
+        ResponseCache cache = new ResponseCache(direct);
+        LolClient client = client(KEY, cache);
+        get(cache, Match.match(client, 1, false));
+        Response cached = get(cache, Match.match(client, 1, false));
+        equal(HTTPstatus.DATA_NOT_FOUND, cached.status);
+        equal(1, direct.sends.get());
+        equal(TimeUnit.MINUTES.toNanos(1),
+                cache.getNotFoundTtl(RequestType.MATCH, TimeUnit.NANOSECONDS));
+        
+        cache.setNotFoundTtl(RequestType.MATCH, 0, TimeUnit.SECONDS);
+        get(cache, Match.match(client, 2, false));
+        get(cache, Match.match(client, 2, false));
+        equal(3, direct.sends.get());
+        
+        for (HTTPstatus status : new HTTPstatus[] {
+                HTTPstatus.RATE_LIMIT_EXCEEDED,
+                HTTPstatus.INTERNAL_SERVER_ERROR,
+                HTTPstatus.SERVICE_UNAVAILABLE}) {
+            direct.status = status;
+            get(cache, Match.match(client, 3, false));
+            get(cache, Match.match(client, 3, false));
+        }
+        equal(9, direct.sends.get());
+        equal(1, cache.size());
+    }
+    
+    private static void ttls() throws InterruptedException {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct);
+        LolClient client = client(KEY, cache);
+        equal(ResponseCache.FOREVER,
+                cache.getTtl(RequestType.MATCH, TimeUnit.SECONDS));
+        equal(30L, cache.getTtl(RequestType.CURRENT_GAME, TimeUnit.SECONDS));
+        fails(IllegalArgumentException.class,
+                () -> cache.setTtl(RequestType.MATCH, -1, TimeUnit.SECONDS));
+        
+        cache.setTtl(RequestType.MATCH, 50, TimeUnit.MILLISECONDS);
+        get(cache, Match.match(client, 1, false));
+        get(cache, Match.match(client, 1, false));
+        equal(1, direct.sends.get());
+        Thread.sleep(100);
+        get(cache, Match.match(client, 1, false));
+        equal(2, direct.sends.get());
+        
+        cache.setTtl(RequestType.MATCH, 0, TimeUnit.SECONDS);
+        get(cache, Match.match(client, 2, false));
+        get(cache, Match.match(client, 2, false));
+        equal(4, direct.sends.get());
+    }
+    
+    private static void invalidate() {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct);
+        LolClient client = client(KEY, cache);
+        get(cache, Match.match(client, 1, false));
+        get(cache, Match.match(client, 2, false));
+        cache.invalidate(Match.match(client, 1, false));
+        equal(1, cache.size());
+        get(cache, Match.match(client, 1, false));
+        get(cache, Match.match(client, 2, false));
+        equal(3, direct.sends.get());
+        cache.clear();
+        equal(0, cache.size());
+        equal(0L, cache.bytes());
+        get(cache, Match.match(client, 2, false));
+        equal(4, direct.sends.get());
+    }
+    
+    private static void bounds() {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct, 32, 1L << 20);
+        LolClient client = client(KEY, cache);
+        for (int id = 0; id < 100; id++) {
+            get(cache, Match.match(client, id, false));
+        }
+        check(cache.size() <= 32, cache.size() + " responses kept");
+        equal(100L, cache.size() + cache.evictions());
+        equal(cache.size() * ENTRY, cache.bytes());
+        
+        //one response in each stripe's share of the memory
+        cache = new ResponseCache(direct, 1000, 16 * (ENTRY + ENTRY / 2));
+        client = client(KEY, cache);
+        for (int id = 0; id < 100; id++) {
+            get(cache, Match.match(client, id, false));
+        }
+        check(cache.size() <= 16, cache.size() + " responses kept");
+        equal(cache.size() * ENTRY, cache.bytes());
+        
+        //responses bigger than a stripe's share are not kept at all
+        cache = new ResponseCache(direct, 1000, 16 * (ENTRY - 1));
+        client = client(KEY, cache);
+        get(cache, Match.match(client, 1, false));
+        equal(0, cache.size());
+        equal(0L, cache.evictions());
+        
+        fails(IllegalArgumentException.class,
+                () -> new ResponseCache(direct, 0, 1));
+        fails(NullPointerException.class,
+                () -> new ResponseCache(null, 1, 1));
+    }
+    
+    /*
+     * Requests asked for twice are protected from a scan of requests that
+     * are only asked for once. The requests are chosen to fall in the same
+     * stripe, which holds 5 responses.
+     */
+    private static void probation() {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct, 16 * 5, 1L << 20);
+        List<Request> same = sameStripe(client(KEY, cache), 30);
+        Request hot = same.get(0);
+        Request cold = same.get(1);
+        get(cache, hot);
+        get(cache, hot);
+        get(cache, cold);
+        for (Request request : same.subList(2, same.size())) {
+            get(cache, request);
+        }
+        int sends = direct.sends.get();
+        get(cache, hot);
+        equal(sends, direct.sends.get());
+        get(cache, cold);
+        equal(sends + 1, direct.sends.get());
+        
+        //bounded by memory instead, the protected segment keeps to 4 of the
+        //stripe's 5 responses even after a scan has evicted from probation
+        cache = new ResponseCache(direct, 16 * 100, 16 * 5 * ENTRY);
+        same = sameStripe(client(KEY, cache), 25);
+        for (Request request : same.subList(0, 10)) {
+            get(cache, request);
+        }
+        for (Request request : same.subList(10, 15)) {
+            get(cache, request);
+            get(cache, request);
+        }
+        for (Request request : same.subList(15, 25)) {
+            get(cache, request);
+        }
+        sends = direct.sends.get();
+        for (Request request : same.subList(11, 15)) {
+            get(cache, request);
+        }
+        equal(sends, direct.sends.get());
+        get(cache, same.get(10));
+        equal(sends + 1, direct.sends.get());
+    }
+    
+    /*
+     * Many threads ask for random requests at once, and the cache must end
+     * up within its bounds with its memory accounted for exactly.
+     */
+    private static void threads() throws InterruptedException {
+        Direct direct = new Direct(HTTPstatus.SUCCESSFUL);
+        ResponseCache cache = new ResponseCache(direct, 64, 1L << 20);
+        LolClient client = client(KEY, cache);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            Random random = new Random(i);
+            threads[i] = new Thread(() -> {
+                for (int n = 0; n < 20000; n++) {
+                    int id = random.nextInt(200);
+                    Request request = Match.match(client, id, false);
+                    if (n % 100 == 0) cache.invalidate(request);
+                    Response response = get(cache, request);
+                    check(response.data().startsWith(id + ":"),
+                            "answered with " + response.data());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        check(cache.size() <= 64, cache.size() + " responses kept");
+        equal(cache.size() * ENTRY, cache.bytes());
+        equal(8 * 20000L, cache.hits() + cache.misses());
+        equal((long) direct.sends.get(), cache.misses());
+    }
+    
+    private static LolClient client(String key, ResponseCache cache) {
+        return new LolClient(key, cache).withTransport((url, type) -> {
+            throw new AssertionError("sent around the arbiter");
+        });
+    }
+    
+    /*
+     * Returns requests for different matches that all fall in the first of
+     * 16 stripes.
+     */
+    private static List<Request> sameStripe(LolClient client, int count) {
+        List<Request> same = new ArrayList<Request>();
+        for (int id = 0; same.size() < count; id++) {
+            Request request = Match.match(client, id, false);
+            int hash = request.hashCode();
+            if (((hash ^ (hash >>> 16)) & 15) == 0) same.add(request);
+        }
+        return same;
+    }
+    
+    private static Response get(ResponseCache cache, Request request) {
+        Response[] answer = new Response[1];
+        cache.arbitrate(request, response -> answer[0] = response);
+        check(answer[0] != null, "no answer for " + request);
+        return answer[0];
+    }
+    
+    /*
+     * Answers every request at once on the calling thread with a body of
+     * BODY bytes starting with the match's id, and the status it is set to.
+     */
+    private static final class Direct implements RequestArbiter {
+        
+        final AtomicInteger sends = new AtomicInteger();
+        volatile HTTPstatus status;
+        
+        Direct(HTTPstatus status) {
+            this.status = status;
+        }
+        
+        @Override
+        public void arbitrate(Request request, ResponseHandler handler) {
+            sends.incrementAndGet();
+            StringBuilder body = new StringBuilder();
+            body.append(((Match) request).id()).append(':');
+            while (body.length() < BODY) {
+                body.append('x');
+            }
+            handler.operate(new Response(request.url(KEY), body.toString(),
+                    status, request.type()));
+        }
+        
+        @Override
+        public int numLimits() {
+            return 0;
+        }
+        
+        @Override
+        public void addLimit(int N, int T) { }
+        
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+        
+        @Override
+        public int backlog() {
+            return 0;
+        }
+        
+    }
+    
+}